@@ -0,0 +1,125 @@
+package com.l.validator.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.l.validator.ThrowMode;
+import com.l.validator.ValidationException;
+import com.l.validator.ValidationPlan;
+
+/**
+ * 功能描述：失败分布倾斜时固定顺序与自适应顺序({@link ValidationPlan.Builder#adaptive()})的对比:
+ * 			两条高代价正则声明在前且几乎不失败,声明在后的廉价规则约40%的请求失败<br/>
+ * 			messages=shared时全部规则共用builder上的co/ex,自适应顺序可在廉价规则失败后跳过正则;
+ * 			messages=distinct时每条规则的异常不同,为保证报告声明顺序上的第一个失败仍需执行正则,validate应与固定顺序持平,只有test受益
+ * @author: l.sl
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdaptivePlanBenchmark{
+	/** 含反向引用,无法编译为DFA */
+	private final static Pattern CODE=Pattern.compile("([A-Z]{2})-(\\d{4,8})-\\1[0-9a-f]{4}"),
+			REF=Pattern.compile("(\\w+)@(\\w+)\\.\\2");
+	@Param({"shared","distinct"})
+	public String messages;
+	public Request[] requests;
+	public int index;
+	public ValidationPlan<Request> fixed,adaptive;
+
+	public static class Request{
+		String code,ref,name;
+		int age;
+
+		public String getCode(){
+			return code;
+		}
+		public String getRef(){
+			return ref;
+		}
+		public String getName(){
+			return name;
+		}
+		public int getAge(){
+			return age;
+		}
+	}
+
+	@Setup
+	public void setup(){
+		Random random=new Random(11);
+		requests=new Request[1024];
+		for(int i=0;i<requests.length;i++){
+			Request r=new Request();
+			r.code=random.nextInt(100)==0?"AB-1234-CD00ff":"AB-"+(100000+i)+"-AB00ff";
+			r.ref="user"+i+"@host.host";
+			r.name=random.nextInt(10)==0?"":"name"+i;
+			r.age=random.nextInt(10)<3?-1:20+i%50;
+			requests[i]=r;
+		}
+		fixed=build(false);
+		adaptive=build(true);
+		//预热到完成重排
+		for(int i=0;i<1<<20;i++){
+			adaptive.test(requests[i&1023]);
+		}
+	}
+
+	private ValidationPlan<Request> build(boolean adaptive){
+		boolean shared="shared".equals(messages);
+		ValidationPlan.Builder<Request> b=ValidationPlan.<Request>builder(505,"invalid request").throwMode(ThrowMode.CACHED);
+		if(adaptive){
+			b.adaptive();
+		}
+		return b.regExp(Request::getCode,CODE,shared?505:601,shared?"invalid request":"code")
+			.regExp(Request::getRef,REF,shared?505:602,shared?"invalid request":"ref")
+			.greaterThan(Request::getAge,0,false,shared?505:603,shared?"invalid request":"age")
+			.notBlank(Request::getName,shared?505:604,shared?"invalid request":"name")
+			.build();
+	}
+
+	private static int validate(ValidationPlan<Request> plan,Request r){
+		try{
+			plan.validate(r);
+			return 0;
+		}catch(ValidationException e){
+			return e.getCo();
+		}
+	}
+
+	@Benchmark
+	public int fixedValidate(){
+		return validate(fixed,requests[index++&1023]);
+	}
+
+	@Benchmark
+	public int adaptiveValidate(){
+		return validate(adaptive,requests[index++&1023]);
+	}
+
+	@Benchmark
+	public boolean fixedTest(){
+		return fixed.test(requests[index++&1023]);
+	}
+
+	@Benchmark
+	public boolean adaptiveTest(){
+		return adaptive.test(requests[index++&1023]);
+	}
+}
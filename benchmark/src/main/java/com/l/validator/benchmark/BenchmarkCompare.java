@@ -0,0 +1,90 @@
+package com.l.validator.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 功能描述：对比两份{@link BenchmarkMain}输出的CSV结果,逐项打印基线值、当前值与变化百分比(含gc.alloc.rate.norm)
+ * <pre>
+ * java -cp target/benchmarks.jar com.l.validator.benchmark.BenchmarkCompare results/abc1234.csv results/def5678.csv
+ * </pre>
+ * @author: l.sl
+ */
+public class BenchmarkCompare{
+	public static void main(String[] args) throws IOException{
+		if(args.length!=2){
+			System.err.println("usage: BenchmarkCompare <baseline.csv> <current.csv>");
+			System.exit(1);
+		}
+		Map<String,String[]> baseline=read(args[0]),current=read(args[1]);
+		System.out.println(String.format("%-80s %14s %14s %9s  %s","Benchmark","Baseline","Current","Change","Unit"));
+		for(Map.Entry<String,String[]> e:current.entrySet()){
+			String[] now=e.getValue(),before=baseline.get(e.getKey());
+			double score=Double.parseDouble(now[0]);
+			if(before==null){
+				System.out.println(String.format("%-80s %14s %14.3f %9s  %s",e.getKey(),"-",score,"new",now[1]));
+				continue;
+			}
+			double base=Double.parseDouble(before[0]);
+			String change=base==0?(score==0?"0.0%":"n/a"):String.format("%+.1f%%",(score-base)*100/base);
+			System.out.println(String.format("%-80s %14.3f %14.3f %9s  %s",e.getKey(),base,score,change,now[1]));
+		}
+		for(String key:baseline.keySet()){
+			if(!current.containsKey(key)){
+				System.out.println(String.format("%-80s %14s %14s %9s","removed: "+key,"","",""));
+			}
+		}
+	}
+	
+	/**
+	 * 功能描述：读取JMH CSV结果,键为基准名加参数,值为{score,unit}
+	 */
+	private static Map<String,String[]> read(String file) throws IOException{
+		List<String> lines=Files.readAllLines(Paths.get(file),StandardCharsets.UTF_8);
+		Map<String,String[]> rows=new LinkedHashMap<>();
+		if(lines.isEmpty()){
+			return rows;
+		}
+		List<String> header=split(lines.get(0));
+		int score=header.indexOf("Score"),unit=header.indexOf("Unit");
+		for(int i=1;i<lines.size();i++){
+			List<String> row=split(lines.get(i));
+			if(row.size()!=header.size()){
+				continue;
+			}
+			StringBuilder key=new StringBuilder(row.get(0));
+			for(int j=unit+1;j<row.size();j++){
+				if(!row.get(j).isEmpty()){
+					key.append(" ").append(header.get(j)).append("=").append(row.get(j));
+				}
+			}
+			rows.put(key.toString(),new String[]{row.get(score).replace(',','.'),row.get(unit)});
+		}
+		return rows;
+	}
+	
+	private static List<String> split(String line){
+		List<String> cells=new ArrayList<>();
+		StringBuilder cell=new StringBuilder();
+		boolean quoted=false;
+		for(int i=0;i<line.length();i++){
+			char c=line.charAt(i);
+			if(c=='"'){
+				quoted=!quoted;
+			}else if(c==','&&!quoted){
+				cells.add(cell.toString());
+				cell.setLength(0);
+			}else{
+				cell.append(c);
+			}
+		}
+		cells.add(cell.toString());
+		return cells;
+	}
+}
@@ -0,0 +1,53 @@
+package com.l.validator.benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 功能描述：基准测试入口,接受全部JMH命令行参数,并且总是启用GC profiler(报告gc.alloc.rate.norm)<br/>
+ * 			结果以CSV格式写入results/{label}.csv,label默认取当前git提交的短哈希,可通过-Dlabel=xxx指定,
+ * 			两次提交的结果可用{@link BenchmarkCompare}对比
+ * @author: l.sl
+ */
+public class BenchmarkMain{
+	public static void main(String[] args) throws Exception{
+		CommandLineOptions cli=new CommandLineOptions(args);
+		String label=System.getProperty("label",gitRevision());
+		File dir=new File(System.getProperty("resultDir","results"));
+		if(!dir.isDirectory()&&!dir.mkdirs()){
+			throw new IllegalStateException("can not create result directory:"+dir);
+		}
+		File result=new File(dir,label+".csv");
+		Options options=new OptionsBuilder()
+			.parent(cli)
+			.addProfiler(GCProfiler.class)
+			.resultFormat(ResultFormatType.CSV)
+			.result(result.getPath())
+			.build();
+		new Runner(options).run();
+		System.out.println("results written to "+result.getPath());
+	}
+	
+	private static String gitRevision(){
+		try{
+			Process p=new ProcessBuilder("git","rev-parse","--short","HEAD").redirectErrorStream(true).start();
+			try(BufferedReader r=new BufferedReader(new InputStreamReader(p.getInputStream(),"UTF-8"))){
+				String line=r.readLine();
+				if(p.waitFor()==0&&line!=null&&!line.trim().isEmpty()){
+					return line.trim();
+				}
+			}
+		}catch(Exception e){
+			//非git环境下使用时间戳
+		}
+		return "run-"+System.currentTimeMillis();
+	}
+}
@@ -0,0 +1,224 @@
+package com.l.validator.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.l.validator.StringCandidateSet;
+import com.l.validator.ValidationException;
+import com.l.validator.Validator;
+
+/**
+ * 功能描述：按校验族(boolean/null/equal/blank/range/in/contains/numbers/regexp/phone)覆盖成功与失败两条路径<br/>
+ * 			方法名格式为{族}_{success|failure},每次调用都从Validator.get开始,与业务代码的用法一致
+ * @author: l.sl
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckFamilyBenchmark{
+	private final static int CO=505;
+	private final static String EX="data validation failed";
+	private final static Pattern CODE=Pattern.compile("^[A-Z]{3}-[0-9]{4}$");
+	
+	public String name="l.sl",empty="",number="-12.5E3",notNumber="12.5E3x",hex="0x1234";
+	public String mobile="13812345678",phone="0571-88886666",code="ABC-1234",badCode="abc-1234";
+	public Integer age=18,other=19;
+	public List<String> list;
+	public Map<String,String> map;
+	public Object[] candidates={"CNY","USD","EUR","JPY","GBP","HKD"};
+	public StringCandidateSet candidateSet=StringCandidateSet.of("CNY","USD","EUR","JPY","GBP","HKD");
+	
+	@Setup
+	public void setup(){
+		list=new ArrayList<>();
+		map=new HashMap<>();
+		for(int i=0;i<16;i++){
+			list.add("item"+i);
+			map.put("key"+i,"value"+i);
+		}
+	}
+	
+	private static int fail(ValidationException e){
+		return e.getCo();
+	}
+	
+	/*   boolean part   */
+	@Benchmark
+	public Validator boolean_success(){
+		return Validator.get(CO,EX).beTrue(age<other).beFalse(age>other);
+	}
+	@Benchmark
+	public int boolean_failure(){
+		try{
+			Validator.get(CO,EX).beTrue(age>other);
+			return 0;
+		}catch(ValidationException e){
+			return fail(e);
+		}
+	}
+	
+	/*   null part   */
+	@Benchmark
+	public Validator null_success(){
+		return Validator.get(CO,EX).beNotNull(name).beNull(null);
+	}
+	@Benchmark
+	public int null_failure(){
+		try{
+			Validator.get(CO,EX).beNull(name);
+			return 0;
+		}catch(ValidationException e){
+			return fail(e);
+		}
+	}
+	
+	/*   equal part   */
+	@Benchmark
+	public Validator equal_success(){
+		return Validator.get(CO,EX).beEqual(age,18).beNotEqual(age,other).beEqualNullable(null,null).beNotEqualNullable(null,age);
+	}
+	@Benchmark
+	public int equal_failure(){
+		try{
+			Validator.get(CO,EX).beEqual(age,other);
+			return 0;
+		}catch(ValidationException e){
+			return fail(e);
+		}
+	}
+	
+	/*   blank part   */
+	@Benchmark
+	public Validator blank_success(){
+		return Validator.get(CO,EX).beNotBlank(name).beNotBlank(list).beNotBlank(map).beBlank(empty);
+	}
+	@Benchmark
+	public int blank_failure(){
+		try{
+			Validator.get(CO,EX).beNotBlank(empty);
+			return 0;
+		}catch(ValidationException e){
+			return fail(e);
+		}
+	}
+	
+	/*   range part   */
+	@Benchmark
+	public Validator range_success(){
+		return Validator.get(CO,EX).beInRange(1,64,name).beInRange(0,150,age).beNotInRange(0,8,list).beLessThan(age,other).beGreaterThan(other,age);
+	}
+	@Benchmark
+	public Validator range_primitive_success(){
+		return Validator.get(CO,EX).beInRangeInt(0,150,age.intValue()).beLessThanInt(age.intValue(),other.intValue());
+	}
+	@Benchmark
+	public int range_failure(){
+		try{
+			Validator.get(CO,EX).beInRange(1,3,name);
+			return 0;
+		}catch(ValidationException e){
+			return fail(e);
+		}
+	}
+	
+	/*   in part   */
+	@Benchmark
+	public Validator in_success(){
+		return Validator.get(CO,EX).beIn("HKD",candidates).beNotIn("AUD",candidates);
+	}
+	@Benchmark
+	public Validator in_set_success(){
+		return Validator.get(CO,EX).beIn("HKD",candidateSet).beNotIn("AUD",candidateSet);
+	}
+	@Benchmark
+	public int in_failure(){
+		try{
+			Validator.get(CO,EX).beIn("AUD",candidates);
+			return 0;
+		}catch(ValidationException e){
+			return fail(e);
+		}
+	}
+	
+	/*   contains part   */
+	@Benchmark
+	public Validator contains_success(){
+		return Validator.get(CO,EX).beContains("item7",list).beContains("key7",map).beNotContains("x",name);
+	}
+	@Benchmark
+	public int contains_failure(){
+		try{
+			Validator.get(CO,EX).beContains("item99",list);
+			return 0;
+		}catch(ValidationException e){
+			return fail(e);
+		}
+	}
+	
+	/*   numbers part   */
+	@Benchmark
+	public Validator numbers_success(){
+		return Validator.get(CO,EX).beNumbers(number).beNumbers(hex);
+	}
+	@Benchmark
+	public int numbers_failure(){
+		try{
+			Validator.get(CO,EX).beNumbers(notNumber);
+			return 0;
+		}catch(ValidationException e){
+			return fail(e);
+		}
+	}
+	
+	/*   regexp part   */
+	@Benchmark
+	public Validator regexp_success(){
+		return Validator.get(CO,EX).beTrueRegExp(code,"^[A-Z]{3}-[0-9]{4}$");
+	}
+	@Benchmark
+	public Validator regexp_pattern_success(){
+		return Validator.get(CO,EX).beTrueRegExp(code,CODE);
+	}
+	@Benchmark
+	public int regexp_failure(){
+		try{
+			Validator.get(CO,EX).beTrueRegExp(badCode,"^[A-Z]{3}-[0-9]{4}$");
+			return 0;
+		}catch(ValidationException e){
+			return fail(e);
+		}
+	}
+	
+	/*   phone part   */
+	@Benchmark
+	public Validator phone_success(){
+		return Validator.get(CO,EX).beMobilePhoneNumber(mobile).bePhoneNumber(phone);
+	}
+	@Benchmark
+	public int phone_failure(){
+		try{
+			Validator.get(CO,EX).beMobilePhoneNumber(phone);
+			return 0;
+		}catch(ValidationException e){
+			return fail(e);
+		}
+	}
+}
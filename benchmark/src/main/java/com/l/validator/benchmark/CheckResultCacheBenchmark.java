@@ -0,0 +1,77 @@
+package com.l.validator.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.l.validator.CheckResultCache;
+import com.l.validator.Validator;
+
+/**
+ * 功能描述：输入大量重复时,启用{@link CheckResultCache}前后的校验耗时;输入为新建的String,与反序列化得到的请求参数一样每次都需计算hashCode<br/>
+ * 			regExp为无法编译为DFA的正则,应受益于缓存;mobilePhoneNumber、numbers不经过缓存,两组结果应持平
+ * @author: l.sl
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckResultCacheBenchmark{
+	/** 无法编译为DFA的正则(含反向引用),走Pattern */
+	private final static Pattern CODE=Pattern.compile("([A-Z]{2})-(\\d{4,8})-\\1[0-9a-f]{4}");
+	@Param({"false","true"})
+	public boolean cached;
+	public char[][] inputs;
+	public int index;
+
+	@Setup
+	public void setup(){
+		Random random=new Random(7);
+		inputs=new char[1024][];
+		for(int i=0;i<inputs.length;i++){
+			//约90%的请求落在64个热点值上
+			int key=random.nextInt(10)==0?random.nextInt(1<<20):random.nextInt(64);
+			inputs[i]=(key%2==0?"13"+(800000000+key):"AB-"+(100000+key)+"-AB"+Integer.toHexString(0x1000+key%4096)).toCharArray();
+		}
+		Validator.setResultCache(cached?new CheckResultCache(1024):null);
+	}
+
+	@TearDown
+	public void tearDown(){
+		Validator.setResultCache(null);
+	}
+
+	private String next(){
+		return new String(inputs[index++&1023]);
+	}
+
+	@Benchmark
+	public boolean mobilePhoneNumber(){
+		return Validator.collecting().beMobilePhoneNumber(next()).result().isValid();
+	}
+
+	@Benchmark
+	public boolean regExp(){
+		return Validator.collecting().beTrueRegExp(next(),CODE).result().isValid();
+	}
+
+	@Benchmark
+	public boolean numbers(){
+		return Validator.collecting().beNumbers(next()).result().isValid();
+	}
+}
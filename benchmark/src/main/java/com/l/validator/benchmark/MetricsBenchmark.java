@@ -0,0 +1,63 @@
+package com.l.validator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.l.validator.ValidationMetrics;
+import com.l.validator.Validator;
+
+/**
+ * 功能描述：对比开启/关闭{@link ValidationMetrics}时同一条成功校验链的耗时,关闭时应与未接入统计前一致
+ * @author: l.sl
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class MetricsBenchmark{
+	@Param({"false","true"})
+	public boolean enabled;
+	public String name="l.sl";
+	public int age=30;
+	public String mobile="13812345678";
+
+	@Setup(Level.Trial)
+	public void setup(){
+		if(enabled){
+			ValidationMetrics.enable();
+		}else{
+			ValidationMetrics.disable();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown(){
+		ValidationMetrics.disable();
+		ValidationMetrics.reset();
+	}
+
+	@Benchmark
+	public Validator chain(){
+		return Validator.get(505,"data validation failed")
+			.beNotBlank(name)
+			.beInRangeInt(0,150,age,true,true,505,"age")
+			.beMobilePhoneNumber(mobile);
+	}
+}
@@ -0,0 +1,53 @@
+package com.l.validator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.l.validator.Validator;
+
+/**
+ * 功能描述：对比每次get新建与lease池化两种方式下一条成功校验链的耗时与分配,需配合-prof gc查看gc.alloc.rate.norm<br/>
+ * 			关闭逃逸分析,模拟校验器被传入其他方法、无法被标量替换的真实调用场景;多线程下同时观察池的竞争开销
+ * @author: l.sl
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = "-XX:-DoEscapeAnalysis")
+public class PooledValidatorBenchmark{
+	public String name="l.sl";
+	public int age=30;
+	public String mobile="13812345678";
+
+	@Benchmark
+	public int getChain(){
+		Validator v=Validator.get(505,"data validation failed")
+			.beNotBlank(name)
+			.beInRangeInt(0,150,age,true,true)
+			.beMobilePhoneNumber(mobile);
+		return v.hashCode();
+	}
+
+	@Benchmark
+	public int leaseChain(){
+		try(Validator v=Validator.lease(505,"data validation failed")){
+			v.beNotBlank(name)
+				.beInRangeInt(0,150,age,true,true)
+				.beMobilePhoneNumber(mobile);
+			return v.hashCode();
+		}
+	}
+}
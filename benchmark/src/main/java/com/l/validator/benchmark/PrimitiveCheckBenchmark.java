@@ -0,0 +1,62 @@
+package com.l.validator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.l.validator.Validator;
+
+/**
+ * 功能描述：对比Number版本与原始类型版本数值校验在成功路径上的耗时与分配,需配合-prof gc查看gc.alloc.rate.norm
+ * @author: l.sl
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:-DoEscapeAnalysis")
+public class PrimitiveCheckBenchmark{
+	public int age=1000;
+	public long id=9007199254740993L;
+	public double amount=12.5;
+	private final Validator validator=Validator.get(505,"data validation failed");
+	
+	@Benchmark
+	public Validator numberInRange(){
+		return validator.beInRange(0,5000,age,true,true,505,"age");
+	}
+	
+	@Benchmark
+	public Validator intInRange(){
+		return validator.beInRangeInt(0,5000,age,true,true,505,"age");
+	}
+	
+	@Benchmark
+	public Validator numberGreaterThan(){
+		return validator.beGreaterThan(id,9007199254740992L,false,505,"id");
+	}
+	
+	@Benchmark
+	public Validator longGreaterThan(){
+		return validator.beGreaterThanLong(id,9007199254740992L,false,505,"id");
+	}
+	
+	@Benchmark
+	public Validator numberLessThan(){
+		return validator.beLessThan(amount,100.0,true,505,"amount");
+	}
+	
+	@Benchmark
+	public Validator doubleLessThan(){
+		return validator.beLessThanDouble(amount,100.0,true,505,"amount");
+	}
+}
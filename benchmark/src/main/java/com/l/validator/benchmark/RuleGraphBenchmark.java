@@ -0,0 +1,120 @@
+package com.l.validator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.l.validator.RuleGraph;
+import com.l.validator.Validator;
+
+/**
+ * 功能描述：对比手写的跨字段、条件校验链与{@link RuleGraph}的耗时:规则图中共享的明细合计只计算一次,条件不成立时跳过整组规则(含正则)
+ * @author: l.sl
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuleGraphBenchmark{
+	private final static Pattern TAX_ID=Pattern.compile("[0-9A-Z]{18}");
+	private final static long LIMIT=100_000_000L;
+	@Param({"PERSON","CORP"})
+	public String type;
+	public Order order;
+	public RuleGraph<Order> graph;
+
+	public static class Order{
+		String type;
+		long start=1000,end=2000;
+		long[] items=new long[512];
+		long declared;
+		String taxId="91350100M000100Y43";
+		String company="l.sl co.";
+
+		public String getType(){
+			return type;
+		}
+		public long getStart(){
+			return start;
+		}
+		public long getEnd(){
+			return end;
+		}
+		public long getDeclared(){
+			return declared;
+		}
+		/**
+		 * 功能描述：模拟需要遍历明细的派生值
+		 */
+		public long total(){
+			long sum=0;
+			for(long item:items){
+				sum+=item;
+			}
+			return sum;
+		}
+		public String getTaxId(){
+			return taxId;
+		}
+		public String getCompany(){
+			return company;
+		}
+	}
+
+	@Setup
+	public void setup(){
+		order=new Order();
+		order.type=type;
+		for(int i=0;i<order.items.length;i++){
+			order.items[i]=i*100+1;
+		}
+		order.declared=order.total();
+		RuleGraph.Builder<Order> b=RuleGraph.builder(505,"invalid order");
+		RuleGraph.Expr<Order,Long> start=b.expr(Order::getStart),end=b.expr(Order::getEnd),total=b.expr(Order::total);
+		RuleGraph.Expr<Order,String> taxId=b.expr(Order::getTaxId);
+		graph=b.rule("period",start,end,(s,e)->e>s,601,"period")
+			.rule("totalPositive",total,t->t>0,602,"total")
+			.rule("totalLimit",total,t->t<LIMIT,603,"total limit")
+			.rule("declared",total,b.expr(Order::getDeclared),(t,d)->t.longValue()==d.longValue(),604,"declared")
+			.guard("corp",o->"CORP".equals(o.getType()))
+			.notBlank("taxId",taxId,605,"taxId").after("corp")
+			.regExp("taxIdFormat",taxId,TAX_ID,606,"taxId format").after("taxId")
+			.notBlank("company",b.expr(Order::getCompany),607,"company").after("corp")
+			.build();
+	}
+
+	/**
+	 * 功能描述：手写方式,各操作数在调用前全部算出
+	 */
+	@Benchmark
+	public Validator chain(){
+		boolean corp="CORP".equals(order.getType());
+		boolean taxIdFormat=order.getTaxId()!=null&&TAX_ID.matcher(order.getTaxId()).matches();
+		return Validator.get(505,"invalid order")
+			.beTrue(order.getEnd()>order.getStart(),601,"period")
+			.beTrue(order.total()>0,602,"total")
+			.beTrue(order.total()<LIMIT,603,"total limit")
+			.beTrue(order.total()==order.getDeclared(),604,"declared")
+			.beTrue(!corp||order.getTaxId()!=null&&order.getTaxId().length()>0,605,"taxId")
+			.beTrue(!corp||taxIdFormat,606,"taxId format")
+			.beTrue(!corp||order.getCompany()!=null&&order.getCompany().length()>0,607,"company");
+	}
+
+	@Benchmark
+	public boolean graph(){
+		return graph.test(order);
+	}
+}
@@ -0,0 +1,53 @@
+package com.l.validator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.l.validator.ThrowMode;
+import com.l.validator.ValidationException;
+import com.l.validator.Validator;
+
+/**
+ * 功能描述：对比不同{@link ThrowMode}下失败路径的开销,depth模拟调用方所在的栈深度
+ * @author: l.sl
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThrowModeBenchmark{
+	@Param({"STACK_TRACE","STACKLESS","CACHED"})
+	public ThrowMode mode;
+	
+	@Param({"0","32"})
+	public int depth;
+	
+	@Benchmark
+	public int failure(){
+		return deep(depth);
+	}
+	
+	private int deep(int d){
+		if(d>0){
+			return deep(d-1);
+		}
+		try{
+			Validator.get(505,"data validation failed").throwMode(mode).beTrue(false);
+			return 0;
+		}catch(ValidationException e){
+			return e.getCo();
+		}
+	}
+}
@@ -0,0 +1,352 @@
+package com.l.validator.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import com.l.validator.annotation.GenerateValidator;
+import com.l.validator.annotation.InRange;
+import com.l.validator.annotation.MobilePhone;
+import com.l.validator.annotation.NotBlank;
+import com.l.validator.annotation.NotNull;
+import com.l.validator.annotation.Numbers;
+import com.l.validator.annotation.PhoneNumber;
+import com.l.validator.annotation.Regex;
+
+/**
+ * 功能描述：为标注{@link GenerateValidator}的类生成校验类,规则与{@link com.l.validator.BeanValidator}一致:<br/>
+ * 			父类字段在前,同一字段按NotNull,NotBlank,InRange,Numbers,MobilePhone,PhoneNumber,Regex;<br/>
+ * 			String与数值基本类型字段的判定直接内联,@Regex编译为静态Pattern,其余类型交给{@link com.l.validator.ValidatorSupport}以保持与运行时一致;<br/>
+ * 			字段优先通过public getter读取,否则要求字段对生成类可见
+ * <pre>
+ * eg:
+ * &lt;annotationProcessorPaths&gt;
+ * 	&lt;path&gt;&lt;groupId&gt;com.l&lt;/groupId&gt;&lt;artifactId&gt;LValidator-processor&lt;/artifactId&gt;&lt;version&gt;0.0.1&lt;/version&gt;&lt;/path&gt;
+ * &lt;/annotationProcessorPaths&gt;
+ * &#64;GenerateValidator
+ * public class User{...}
+ * UserValidator.validate(user);
+ * </pre>
+ * @author: l.sl
+ */
+@SupportedAnnotationTypes("com.l.validator.annotation.GenerateValidator")
+public final class ValidatorProcessor extends AbstractProcessor{
+	private final static String SUPPORT="ValidatorSupport";
+
+	@Override
+	public SourceVersion getSupportedSourceVersion(){
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations,RoundEnvironment env){
+		for(Element element:env.getElementsAnnotatedWith(GenerateValidator.class)){
+			if(element.getKind()!=ElementKind.CLASS){
+				error(element,"@GenerateValidator only supports classes");
+				continue;
+			}
+			try{
+				generate((TypeElement)element);
+			}catch(InvalidRule e){
+				error(e.element,e.getMessage());
+			}catch(IOException e){
+				error(element,"failed to write validator:"+e.getMessage());
+			}
+		}
+		return true;
+	}
+
+	private void error(Element element,String message){
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,message,element);
+	}
+
+	/*   generate part   */
+	private void generate(TypeElement type) throws IOException{
+		String pkg=processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+		String name=type.getAnnotation(GenerateValidator.class).value();
+		if(name.isEmpty()){
+			name=flatName(type)+"Validator";
+		}
+		String bean=beanType(type);
+		List<String> patterns=new ArrayList<>();
+		StringBuilder body=new StringBuilder();
+		int index=0;
+		for(TypeElement c:hierarchy(type)){
+			for(VariableElement field:ElementFilter.fieldsIn(c.getEnclosedElements())){
+				if(field.getModifiers().contains(Modifier.STATIC)){
+					continue;
+				}
+				if(field(field,type,pkg,"f"+index,body,patterns)){
+					index++;
+				}
+			}
+		}
+		StringBuilder src=new StringBuilder();
+		if(!pkg.isEmpty()){
+			src.append("package ").append(pkg).append(";\n\n");
+		}
+		if(!patterns.isEmpty()){
+			src.append("import java.util.regex.Pattern;\n\n");
+		}
+		src.append("import com.l.validator.ValidationResult;\n");
+		src.append("import com.l.validator.ValidatorSupport;\n\n");
+		src.append("/**\n * 功能描述：由LValidator-processor根据{@link ").append(bean.replaceAll("<.*>","")).append("}生成,请勿修改\n */\n");
+		src.append(type.getModifiers().contains(Modifier.PUBLIC)?"public ":"").append("final class ").append(name).append("{\n");
+		for(int i=0;i<patterns.size();i++){
+			src.append("\tprivate final static Pattern REGEX_").append(i).append("=Pattern.compile(").append(literal(patterns.get(i))).append(");\n");
+		}
+		if(!patterns.isEmpty()){
+			src.append("\n");
+		}
+		src.append("\tprivate ").append(name).append("(){\n\t}\n\n");
+		src.append("\t/**\n\t * 功能描述：校验对象,遇到第一个失败的规则即抛出异常;对象为null时按默认编号抛出\n\t */\n");
+		src.append("\tpublic static void validate(").append(bean).append(" bean){\n\t\tcheck(bean,null);\n\t}\n\n");
+		src.append("\t/**\n\t * 功能描述：校验对象并将全部失败记录到给定结果中\n\t */\n");
+		src.append("\tpublic static ValidationResult validate(").append(bean).append(" bean,ValidationResult result){\n");
+		src.append("\t\tif(result==null){\n\t\t\tthrow new IllegalArgumentException(\"result must not be null\");\n\t\t}\n");
+		src.append("\t\tcheck(bean,result);\n\t\treturn result;\n\t}\n\n");
+		src.append("\tprivate static void check(").append(bean).append(" bean,ValidationResult result){\n");
+		src.append("\t\tif(bean==null){\n\t\t\t").append(SUPPORT).append(".fail(result);\n\t\t\treturn;\n\t\t}\n");
+		if(body.indexOf("\t\tstatus=")>=0){
+			src.append("\t\tint status;\n");
+		}
+		src.append(body);
+		src.append("\t}\n}\n");
+		String qualified=pkg.isEmpty()?name:pkg+"."+name;
+		try(Writer writer=processingEnv.getFiler().createSourceFile(qualified,type).openWriter()){
+			writer.write(src.toString());
+		}
+	}
+
+	/**
+	 * 功能描述：生成单个字段的全部规则,字段无注解时返回false
+	 */
+	private boolean field(VariableElement field,TypeElement owner,String pkg,String var,StringBuilder body,List<String> patterns){
+		NotNull notNull=field.getAnnotation(NotNull.class);
+		NotBlank notBlank=field.getAnnotation(NotBlank.class);
+		InRange inRange=field.getAnnotation(InRange.class);
+		Numbers numbers=field.getAnnotation(Numbers.class);
+		MobilePhone mobilePhone=field.getAnnotation(MobilePhone.class);
+		PhoneNumber phoneNumber=field.getAnnotation(PhoneNumber.class);
+		Regex regex=field.getAnnotation(Regex.class);
+		if(notNull==null&&notBlank==null&&inRange==null&&numbers==null&&mobilePhone==null&&phoneNumber==null&&regex==null){
+			return false;
+		}
+		TypeMirror type=field.asType();
+		boolean string=isString(type);
+		if((mobilePhone!=null||phoneNumber!=null||regex!=null)&&!string){
+			throw new InvalidRule(field,"@MobilePhone/@PhoneNumber/@Regex only support String field");
+		}
+		TypeKind kind=type.getKind();
+		//数值基本类型装箱后为Number,判定与Number一致
+		boolean numeric=kind.isPrimitive()&&kind!=TypeKind.BOOLEAN&&kind!=TypeKind.CHAR;
+		boolean floating=kind==TypeKind.DOUBLE||kind==TypeKind.FLOAT;
+		String declared=sourceType(type);
+		body.append("\t\t").append(declared).append(" ").append(var).append("=bean.").append(accessor(field,owner,pkg)).append(";\n");
+		if(notNull!=null&&!kind.isPrimitive()){
+			rule(body,var+"==null",notNull.co(),notNull.ex());
+		}
+		if(notBlank!=null){
+			if(string){
+				rule(body,var+"==null||"+var+".length()==0",notBlank.co(),notBlank.ex());
+			}else if(numeric){
+				rule(body,"!("+var+">0)",notBlank.co(),notBlank.ex());
+			}else{
+				status(body,SUPPORT+".notBlank("+var+")",notBlank.co(),notBlank.ex());
+			}
+		}
+		if(inRange!=null){
+			String range=range(inRange,string?var+".length()":var);
+			if(string){
+				rule(body,var+"==null||!("+range+")",inRange.co(),inRange.ex());
+			}else if(numeric){
+				if(floating){
+					//与运行时一致:NaN无法计算长度,按未知类型处理
+					body.append("\t\tif(Double.isNaN(").append(var).append(")){\n\t\t\t").append(SUPPORT).append(".fail(result,").append(SUPPORT).append(".UNKNOWN_TYPE,")
+						.append(inRange.co()).append(",").append(literal(inRange.ex())).append(");\n\t\t}else ");
+				}else{
+					body.append("\t\t");
+				}
+				body.append("if(!(").append(range).append(")){\n\t\t\t").append(SUPPORT).append(".fail(result,").append(inRange.co()).append(",").append(literal(inRange.ex())).append(");\n\t\t}\n");
+			}else{
+				status(body,SUPPORT+".inRange("+literal(inRange.begin())+","+literal(inRange.end())+","+var+","+inRange.beginInclude()+","+inRange.endInclude()+")",inRange.co(),inRange.ex());
+			}
+		}
+		if(numbers!=null&&!numeric){
+			rule(body,"!"+SUPPORT+".numbers("+var+")",numbers.co(),numbers.ex());
+		}
+		if(mobilePhone!=null){
+			rule(body,"!"+SUPPORT+".mobilePhoneNumber("+var+")",mobilePhone.co(),mobilePhone.ex());
+		}
+		if(phoneNumber!=null){
+			rule(body,"!"+SUPPORT+".phoneNumber("+var+")",phoneNumber.co(),phoneNumber.ex());
+		}
+		if(regex!=null){
+			try{
+				Pattern.compile(regex.value());
+			}catch(PatternSyntaxException e){
+				throw new InvalidRule(field,"invalid @Regex:"+e.getMessage());
+			}
+			rule(body,var+"==null||!REGEX_"+patterns.size()+".matcher("+var+").matches()",regex.co(),regex.ex());
+			patterns.add(regex.value());
+		}
+		return true;
+	}
+
+	private void rule(StringBuilder body,String failure,int co,String ex){
+		body.append("\t\tif(").append(failure).append("){\n\t\t\t").append(SUPPORT).append(".fail(result,").append(co).append(",").append(literal(ex)).append(");\n\t\t}\n");
+	}
+
+	private void status(StringBuilder body,String check,int co,String ex){
+		body.append("\t\tstatus=").append(check).append(";\n");
+		body.append("\t\tif(status!=").append(SUPPORT).append(".PASS){\n\t\t\t").append(SUPPORT).append(".fail(result,status,").append(co).append(",").append(literal(ex)).append(");\n\t\t}\n");
+	}
+
+	private String range(InRange inRange,String value){
+		String begin="("+literal(inRange.begin())+")",end="("+literal(inRange.end())+")";
+		return (inRange.beginInclude()?begin+"<="+value:begin+"<"+value)+"&&"+(inRange.endInclude()?value+"<="+end:value+"<"+end);
+	}
+
+	/*   element part   */
+	/**
+	 * 功能描述：与运行时一致,优先使用public getter(boolean字段依次尝试is、get),否则直接访问对生成类可见的字段
+	 */
+	private String accessor(VariableElement field,TypeElement owner,String pkg){
+		String name=field.getSimpleName().toString();
+		String suffix=Character.toUpperCase(name.charAt(0))+name.substring(1);
+		String[] prefixes=field.asType().getKind()==TypeKind.BOOLEAN?new String[]{"is","get"}:new String[]{"get"};
+		List<ExecutableElement> methods=ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(owner));
+		for(String prefix:prefixes){
+			for(ExecutableElement m:methods){
+				if(m.getSimpleName().contentEquals(prefix+suffix)&&m.getParameters().isEmpty()
+						&&m.getModifiers().contains(Modifier.PUBLIC)&&!m.getModifiers().contains(Modifier.STATIC)
+						&&processingEnv.getTypeUtils().isSameType(m.getReturnType(),field.asType())){
+					return prefix+suffix+"()";
+				}
+			}
+		}
+		Set<Modifier> modifiers=field.getModifiers();
+		String fieldPkg=processingEnv.getElementUtils().getPackageOf(field).getQualifiedName().toString();
+		if(modifiers.contains(Modifier.PUBLIC)||!modifiers.contains(Modifier.PRIVATE)&&fieldPkg.equals(pkg)){
+			return name;
+		}
+		throw new InvalidRule(field,"field "+name+" has no public getter and is not visible to the generated validator");
+	}
+
+	private List<TypeElement> hierarchy(TypeElement type){
+		List<TypeElement> hierarchy=new ArrayList<>();
+		for(TypeElement c=type;c!=null&&!c.getQualifiedName().contentEquals("java.lang.Object");){
+			hierarchy.add(0,c);
+			TypeMirror superclass=c.getSuperclass();
+			c=superclass.getKind()==TypeKind.DECLARED?(TypeElement)((DeclaredType)superclass).asElement():null;
+		}
+		return hierarchy;
+	}
+
+	/**
+	 * 功能描述：局部变量的类型,含类型变量时使用擦除后的类型
+	 */
+	private String sourceType(TypeMirror type){
+		if(!hasTypeVariable(type)){
+			return type.toString();
+		}
+		String erased=processingEnv.getTypeUtils().erasure(type).toString();
+		if(type.getKind()!=TypeKind.DECLARED){
+			return erased;
+		}
+		//以通配符代替类型变量,避免原始类型
+		StringBuilder sb=new StringBuilder(erased).append('<');
+		int params=((DeclaredType)type).getTypeArguments().size();
+		for(int i=0;i<params;i++){
+			sb.append(i==0?"?":",?");
+		}
+		return sb.append('>').toString();
+	}
+
+	private static boolean hasTypeVariable(TypeMirror type){
+		switch(type.getKind()){
+			case TYPEVAR:
+				return true;
+			case ARRAY:
+				return hasTypeVariable(((ArrayType)type).getComponentType());
+			case WILDCARD:
+				WildcardType w=(WildcardType)type;
+				return w.getExtendsBound()!=null&&hasTypeVariable(w.getExtendsBound())||w.getSuperBound()!=null&&hasTypeVariable(w.getSuperBound());
+			case DECLARED:
+				for(TypeMirror arg:((DeclaredType)type).getTypeArguments()){
+					if(hasTypeVariable(arg)){
+						return true;
+					}
+				}
+				return false;
+			default:
+				return false;
+		}
+	}
+
+	private boolean isString(TypeMirror type){
+		return type.getKind()==TypeKind.DECLARED&&((TypeElement)((DeclaredType)type).asElement()).getQualifiedName().contentEquals("java.lang.String");
+	}
+
+	private static String flatName(TypeElement type){
+		String name=type.getSimpleName().toString();
+		Element enclosing=type.getEnclosingElement();
+		if(type.getNestingKind()==NestingKind.MEMBER&&enclosing instanceof TypeElement){
+			return flatName((TypeElement)enclosing)+"_"+name;
+		}
+		return name;
+	}
+
+	/**
+	 * 功能描述：泛型类使用通配符形式,如Page&lt;?&gt;
+	 */
+	private static String beanType(TypeElement type){
+		StringBuilder sb=new StringBuilder(type.getQualifiedName());
+		int params=type.getTypeParameters().size();
+		if(params>0){
+			sb.append('<');
+			for(int i=0;i<params;i++){
+				sb.append(i==0?"?":",?");
+			}
+			sb.append('>');
+		}
+		return sb.toString();
+	}
+
+	private String literal(Object value){
+		return processingEnv.getElementUtils().getConstantExpression(value);
+	}
+
+	private final static class InvalidRule extends RuntimeException{
+		private static final long serialVersionUID = 1L;
+		final transient Element element;
+
+		InvalidRule(Element element,String message){
+			super(message);
+			this.element=element;
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package com.l.validator;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+/**
+ * 功能描述：把字段读取编译为{@link Function},每个字段只在构建元数据时反射一次<br/>
+ * 			优先通过LambdaMetafactory把public getter生成为lambda(与手写的方法引用等价),
+ * 			不满足条件(无getter、类不可访问、类加载器不可见等)时退化为MethodHandle
+ * @author: l.sl
+ */
+final class Accessors{
+	private final static MethodHandles.Lookup LOOKUP=MethodHandles.lookup();
+	private final static MethodType APPLY=MethodType.methodType(Object.class,Object.class);
+
+	private Accessors(){
+	}
+
+	static Function<Object,Object> of(Field field){
+		Method getter=getter(field);
+		if(getter!=null){
+			Function<Object,Object> f=lambda(getter);
+			if(f!=null){
+				return f;
+			}
+		}
+		return handle(field,getter);
+	}
+
+	private static Method getter(Field field){
+		String name=field.getName();
+		String suffix=Character.toUpperCase(name.charAt(0))+name.substring(1);
+		Class<?> type=field.getDeclaringClass();
+		for(String prefix:field.getType()==boolean.class?new String[]{"is","get"}:new String[]{"get"}){
+			try{
+				Method m=type.getMethod(prefix+suffix);
+				if(m.getReturnType()==field.getType()&&!Modifier.isStatic(m.getModifiers())){
+					return m;
+				}
+			}catch(NoSuchMethodException e){
+				//继续尝试下一个前缀
+			}
+		}
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<Object,Object> lambda(Method getter){
+		if(!Modifier.isPublic(getter.getDeclaringClass().getModifiers())){
+			return null;
+		}
+		try{
+			MethodHandle target=LOOKUP.unreflect(getter);
+			CallSite site=LambdaMetafactory.metafactory(LOOKUP,"apply",MethodType.methodType(Function.class),
+					APPLY.erase(),target,MethodType.methodType(target.type().returnType().isPrimitive()?box(target.type().returnType()):target.type().returnType(),getter.getDeclaringClass()));
+			return (Function<Object,Object>)site.getTarget().invokeExact();
+		}catch(Throwable e){
+			return null;
+		}
+	}
+
+	private static Function<Object,Object> handle(Field field,Method getter){
+		try{
+			MethodHandle mh;
+			if(getter!=null){
+				getter.setAccessible(true);
+				mh=LOOKUP.unreflect(getter);
+			}else{
+				field.setAccessible(true);
+				mh=LOOKUP.unreflectGetter(field);
+			}
+			MethodHandle h=mh.asType(APPLY);
+			return o->{
+				try{
+					return h.invokeExact(o);
+				}catch(RuntimeException|Error e){
+					throw e;
+				}catch(Throwable e){
+					throw new IllegalStateException(e);
+				}
+			};
+		}catch(IllegalAccessException|RuntimeException e){
+			throw new IllegalStateException("can not access field "+field,e);
+		}
+	}
+
+	private static Class<?> box(Class<?> type){
+		return MethodType.methodType(type).wrap().returnType();
+	}
+}
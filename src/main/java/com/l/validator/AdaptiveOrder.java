@@ -0,0 +1,208 @@
+package com.l.validator;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 功能描述：{@link ValidationPlan}的自适应执行顺序,由{@link ValidationPlan.Builder#adaptive()}启用<br/>
+ * 			约1/64的调用为采样调用:完整执行当前段的全部规则,记录每条规则的耗时与失败次数;每256次采样后按 平均耗时/失败率 从小到大重排各段,
+ * 			即廉价且常失败的规则在前,同时将统计减半以适应输入分布的变化;<br/>
+ * 			只在{@link ValidationPlan.Builder#barrier()}划分的段内重排,前一段全部通过后才执行后一段;<br/>
+ * 			报告的异常与按声明顺序执行完全一致:找到一个失败后,声明在其前且尚未执行的规则仍需执行,
+ * 			但异常编号与信息相同(且不会返回未知类型)的规则可以跳过,因为无论其是否失败报告的都是同一异常;
+ * 			因此重排主要减少{@link ValidationPlan#test(Object)}与共用默认co/ex的规则的耗时
+ * @author: l.sl
+ */
+final class AdaptiveOrder<T>{
+	private final static int SAMPLE_MASK=63,REORDER_SAMPLES=256;
+	private final ValidationPlan.Rule<? super T>[] rules;
+	/** 各段的起始下标,最后一个元素为规则总数 */
+	private final int[] segments;
+	/** 规则的异常标识,co与ex都相同的规则标识相同 */
+	private final int[] messages;
+	private final boolean[] exact;
+	private volatile Ordering ordering;
+	private final AtomicLongArray nanos,failures,samples;
+	private final AtomicInteger sampled=new AtomicInteger();
+
+	AdaptiveOrder(ValidationPlan.Rule<? super T>[] rules,List<Integer> barriers){
+		this.rules=rules;
+		int[] segments=new int[barriers.size()+2];
+		int n=1;
+		for(int b:barriers){
+			if(b>segments[n-1]&&b<rules.length){
+				segments[n++]=b;
+			}
+		}
+		segments[n++]=rules.length;
+		this.segments=Arrays.copyOf(segments,n);
+		this.messages=new int[rules.length];
+		this.exact=new boolean[rules.length];
+		Map<List<Object>,Integer> ids=new HashMap<>();
+		int[] order=new int[rules.length];
+		for(int i=0;i<rules.length;i++){
+			Integer id=ids.get(Arrays.asList(rules[i].co,rules[i].ex));
+			if(id==null){
+				id=ids.size();
+				ids.put(Arrays.asList(rules[i].co,rules[i].ex),id);
+			}
+			messages[i]=id;
+			exact[i]=!rules[i].mayBeUnknownType();
+			order[i]=i;
+		}
+		this.ordering=new Ordering(order);
+		this.nanos=new AtomicLongArray(rules.length);
+		this.failures=new AtomicLongArray(rules.length);
+		this.samples=new AtomicLongArray(rules.length);
+	}
+
+	/*   execute part   */
+	/**
+	 * 功能描述：与{@link ValidationPlan#firstFailure(Object)}的返回约定一致,报告的co/ex与按声明顺序执行相同
+	 */
+	int firstFailure(T target){
+		return firstFailure(target,(ThreadLocalRandom.current().nextInt()&SAMPLE_MASK)==0);
+	}
+
+	private int firstFailure(T target,boolean sample){
+		Ordering o=ordering;
+		for(int s=0;s+1<segments.length;s++){
+			int failure=sample?sample(o,segments[s],segments[s+1],target):segment(o,segments[s],segments[s+1],target);
+			if(failure!=-1){
+				return failure;
+			}
+		}
+		if(sample){
+			sampled();
+		}
+		return -1;
+	}
+
+	boolean test(T target){
+		if((ThreadLocalRandom.current().nextInt()&SAMPLE_MASK)==0){
+			return firstFailure(target,true)==-1;
+		}
+		int[] order=ordering.order;
+		for(int i:order){
+			if(rules[i].test(target)!=Checks.PASS){
+				return false;
+			}
+		}
+		return true;
+	}
+
+	int[] order(){
+		return ordering.order.clone();
+	}
+
+	private int segment(Ordering o,int from,int to,T target){
+		int[] order=o.order;
+		int best=-1,status=Checks.PASS,k=from;
+		for(;k<to;k++){
+			int i=order[k];
+			status=rules[i].test(target);
+			if(status!=Checks.PASS){
+				best=i;
+				break;
+			}
+		}
+		if(best==-1){
+			return -1;
+		}
+		//按声明顺序倒序检查排在后面、尚未执行且声明在best之前的规则
+		int[] position=o.position;
+		for(int j=best-1;j>=from;j--){
+			if(position[j]<k||exact[j]&&status==Checks.FAIL&&messages[j]==messages[best]){
+				continue;
+			}
+			int s=rules[j].test(target);
+			if(s!=Checks.PASS){
+				best=j;
+				status=s;
+			}
+		}
+		return status==Checks.UNKNOWN_TYPE?-(best+2):best;
+	}
+
+	/**
+	 * 功能描述：采样调用,按当前顺序执行整段规则并记录耗时与失败,取声明顺序上的第一个失败
+	 */
+	private int sample(Ordering o,int from,int to,T target){
+		int[] order=o.order;
+		int best=Integer.MAX_VALUE,status=Checks.PASS;
+		for(int k=from;k<to;k++){
+			int i=order[k];
+			long start=System.nanoTime();
+			int s=rules[i].test(target);
+			nanos.addAndGet(i,System.nanoTime()-start);
+			samples.incrementAndGet(i);
+			if(s!=Checks.PASS){
+				failures.incrementAndGet(i);
+				if(i<best){
+					best=i;
+					status=s;
+				}
+			}
+		}
+		if(best==Integer.MAX_VALUE){
+			return -1;
+		}
+		sampled();
+		return status==Checks.UNKNOWN_TYPE?-(best+2):best;
+	}
+
+	private void sampled(){
+		if(sampled.incrementAndGet()%REORDER_SAMPLES==0){
+			reorder();
+		}
+	}
+
+	/*   reorder part   */
+	/**
+	 * 功能描述：按 平均耗时/失败率 重排各段,失败率取(失败+1)/(采样+2)避免未失败过的规则得分无穷大;未采样的规则排在段末,得分相同时保持当前顺序
+	 */
+	private synchronized void reorder(){
+		double[] score=new double[rules.length];
+		for(int i=0;i<rules.length;i++){
+			long n=samples.get(i);
+			score[i]=n==0?Double.MAX_VALUE:(nanos.get(i)/(double)n)/((failures.get(i)+1.0)/(n+2.0));
+			samples.set(i,n>>>1);
+			nanos.set(i,nanos.get(i)>>>1);
+			failures.set(i,failures.get(i)>>>1);
+		}
+		Integer[] order=new Integer[rules.length];
+		for(int i=0;i<order.length;i++){
+			order[i]=ordering.order[i];
+		}
+		for(int s=0;s+1<segments.length;s++){
+			Arrays.sort(order,segments[s],segments[s+1],(a,b)->Double.compare(score[a],score[b]));
+		}
+		int[] next=new int[order.length];
+		for(int i=0;i<next.length;i++){
+			next[i]=order[i];
+		}
+		ordering=new Ordering(next);
+	}
+
+	/**
+	 * 功能描述：执行顺序及其逆映射,整体替换以保证两者一致
+	 */
+	private final static class Ordering{
+		final int[] order;
+		/** position[i]为规则i在order中的位置 */
+		final int[] position;
+
+		Ordering(int[] order){
+			this.order=order;
+			this.position=new int[order.length];
+			for(int k=0;k<order.length;k++){
+				position[order[k]]=k;
+			}
+		}
+	}
+}
@@ -0,0 +1,379 @@
+package com.l.validator;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Consumer;
+
+/**
+ * 功能描述：异步校验,适合需要查询缓存/外部服务等I/O的规则,结果以CompletableFuture&lt;ValidationResult&gt;返回,不阻塞调用线程<br/>
+ * 			同步规则({@link Session#sync(Consumer)})在调用线程内联执行,异步规则({@link Session#check(Callable, int, String)})并发提交到执行器;<br/>
+ * 			每条异步规则可设置超时,超时按该规则失败处理并中断执行;快速失败模式下第一个失败出现后立即完成并取消其余规则;<br/>
+ * 			收集模式下失败按规则声明顺序(同步规则在前)记录,与完成先后无关
+ * <pre>
+ * eg:
+ * AsyncValidator.get().timeout(200,TimeUnit.MILLISECONDS).session()
+ * 	.sync(v-&gt;v.beNotBlank(code,501,"code required").beMobilePhoneNumber(phone,502,"bad phone"))
+ * 	.check(()-&gt;codeService.exists(code),503,"unknown code")
+ * 	.check(()-&gt;blacklist.contains(phone),504,"phone blocked",50,TimeUnit.MILLISECONDS)
+ * 	.validate()
+ * 	.thenAccept(ValidationResult::throwIfInvalid);
+ * </pre>
+ * 异步规则返回false或抛出{@link ValidationException}(使用其co/ex)即为失败,抛出其他异常时整体以该异常异常完成
+ * @author: l.sl
+ */
+public final class AsyncValidator{
+	private final static AsyncValidator DEFAULT=new AsyncValidator(null,0L,false);
+	private final static int PENDING=0,PASSED=1,FAILED=2,TIMED_OUT=3,CANCELLED=4;
+	private final Executor executor;
+	private final long timeoutnanos;
+	private final boolean failfast;
+
+	private AsyncValidator(Executor executor,long timeoutnanos,boolean failfast){
+		this.executor=executor;
+		this.timeoutnanos=timeoutnanos;
+		this.failfast=failfast;
+	}
+
+	/**
+	 * 功能描述：获取使用默认执行器(守护线程的缓存线程池)、无超时、收集模式的异步校验器
+	 */
+	public final static AsyncValidator get(){
+		return DEFAULT;
+	}
+
+	/**
+	 * 功能描述：返回使用指定执行器的新校验器
+	 */
+	public AsyncValidator executor(Executor executor){
+		if(executor==null){
+			throw new IllegalArgumentException("executor must not be null");
+		}
+		return new AsyncValidator(executor,timeoutnanos,failfast);
+	}
+
+	/**
+	 * 功能描述：返回每条异步规则使用一个虚拟线程的新校验器,仅JDK21及以上可用
+	 */
+	public AsyncValidator virtualThreads(){
+		ExecutorService virtual=VirtualThreads.EXECUTOR;
+		if(virtual==null){
+			throw new UnsupportedOperationException("virtual threads require JDK 21 or later");
+		}
+		return new AsyncValidator(virtual,timeoutnanos,failfast);
+	}
+
+	/**
+	 * 功能描述：当前JDK是否支持虚拟线程
+	 */
+	public final static boolean isVirtualThreadSupported(){
+		return VirtualThreads.EXECUTOR!=null;
+	}
+
+	/**
+	 * 功能描述：返回异步规则默认超时为timeout的新校验器,小于等于0表示不超时
+	 */
+	public AsyncValidator timeout(long timeout,TimeUnit unit){
+		return new AsyncValidator(executor,Math.max(unit.toNanos(timeout),0L),failfast);
+	}
+
+	/**
+	 * 功能描述：返回快速失败模式的新校验器:出现第一个失败即完成,结果只包含该失败,其余规则被取消
+	 */
+	public AsyncValidator failFast(boolean failfast){
+		return new AsyncValidator(executor,timeoutnanos,failfast);
+	}
+
+	/**
+	 * 功能描述：开始一次校验,返回的会话非线程安全且只能validate一次
+	 */
+	public Session session(){
+		return new Session();
+	}
+
+	private Executor executor(){
+		return executor!=null?executor:DefaultExecutor.EXECUTOR;
+	}
+
+	/*   session part   */
+	public final class Session{
+		private final ValidationResult result=new ValidationResult();
+		private final List<Check> checks=new ArrayList<>();
+		private boolean started;
+
+		private Session(){
+		}
+
+		/**
+		 * 功能描述：在调用线程内立即执行同步规则(收集模式);快速失败模式下已有失败时不再执行
+		 */
+		public Session sync(Consumer<Validator> rules){
+			checkNotStarted();
+			if(failfast&&!result.isValid()){
+				return this;
+			}
+			ValidationResult r=new ValidationResult();
+			rules.accept(Validator.collecting(r));
+			for(int i=0,n=failfast?Math.min(r.size(),1):r.size();i<n;i++){
+				result.add(r.getCo(i),r.getEx(i),r.getTemplate(i),r.getArgs(i));
+			}
+			return this;
+		}
+
+		/**
+		 * 功能描述：添加异步规则,使用校验器的默认超时
+		 */
+		public Session check(Callable<Boolean> check,int co,String ex){
+			return check(check,co,ex,timeoutnanos,TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * 功能描述：添加异步规则并指定超时,小于等于0表示不超时
+		 */
+		public Session check(Callable<Boolean> check,int co,String ex,long timeout,TimeUnit unit){
+			checkNotStarted();
+			if(check==null){
+				throw new IllegalArgumentException("check must not be null");
+			}
+			checks.add(new Check(check,co,ex,Math.max(unit.toNanos(timeout),0L)));
+			return this;
+		}
+
+		/**
+		 * 功能描述：提交全部异步规则;取消返回的Future会中断仍在执行的规则
+		 */
+		public CompletableFuture<ValidationResult> validate(){
+			checkNotStarted();
+			started=true;
+			if(checks.isEmpty()||failfast&&!result.isValid()){
+				return CompletableFuture.completedFuture(result);
+			}
+			return new Run(result,checks.toArray(new Check[0]),failfast).start(executor());
+		}
+
+		private void checkNotStarted(){
+			if(started){
+				throw new IllegalStateException("session already validated");
+			}
+		}
+	}
+
+	private final static class Check{
+		final Callable<Boolean> check;
+		final int co;
+		final String ex;
+		final long timeoutnanos;
+
+		Check(Callable<Boolean> check,int co,String ex,long timeoutnanos){
+			this.check=check;
+			this.co=co;
+			this.ex=ex;
+			this.timeoutnanos=timeoutnanos;
+		}
+	}
+
+	/*   run part   */
+	/**
+	 * 功能描述：一次异步校验的执行状态;每条规则的状态只能由PENDING经CAS变更一次,变更成功的一方负责后续处理
+	 */
+	private final static class Run{
+		private final ValidationResult result;
+		private final Check[] checks;
+		private final boolean failfast;
+		private final AtomicIntegerArray states;
+		/** 失败规则抛出的ValidationException,用其co/ex记录 */
+		private final ValidationException[] thrown;
+		private final Task[] tasks;
+		private final ScheduledFuture<?>[] timers;
+		private final AtomicInteger remaining;
+		private final AtomicBoolean finished=new AtomicBoolean();
+		private final CompletableFuture<ValidationResult> future=new CompletableFuture<>();
+
+		Run(ValidationResult result,Check[] checks,boolean failfast){
+			this.result=result;
+			this.checks=checks;
+			this.failfast=failfast;
+			this.states=new AtomicIntegerArray(checks.length);
+			this.thrown=new ValidationException[checks.length];
+			this.tasks=new Task[checks.length];
+			this.timers=new ScheduledFuture<?>[checks.length];
+			this.remaining=new AtomicInteger(checks.length);
+		}
+
+		CompletableFuture<ValidationResult> start(Executor executor){
+			for(int i=0;i<checks.length;i++){
+				tasks[i]=new Task(this,i);
+			}
+			//调用方取消或以其他方式完成时,中断仍在执行的规则
+			future.whenComplete((r,e)->cancelAll());
+			for(int i=0;i<checks.length&&!future.isDone();i++){
+				int index=i;
+				if(checks[i].timeoutnanos>0){
+					timers[i]=Scheduler.SCHEDULER.schedule(()->timeout(index),checks[i].timeoutnanos,TimeUnit.NANOSECONDS);
+				}
+				try{
+					executor.execute(tasks[i]);
+				}catch(RejectedExecutionException e){
+					fail(e);
+				}
+			}
+			return future;
+		}
+
+		/**
+		 * 功能描述：规则执行结束(含被取消)时由FutureTask.done回调
+		 */
+		void done(int index,Task task){
+			if(task.isCancelled()){
+				return;
+			}
+			int state;
+			try{
+				state=Boolean.TRUE.equals(task.get())?PASSED:FAILED;
+			}catch(ExecutionException e){
+				if(e.getCause() instanceof ValidationException){
+					thrown[index]=(ValidationException)e.getCause();
+					state=FAILED;
+				}else{
+					if(states.compareAndSet(index,PENDING,CANCELLED)){
+						fail(e.getCause());
+					}
+					return;
+				}
+			}catch(InterruptedException|CancellationException e){
+				return;
+			}
+			if(states.compareAndSet(index,PENDING,state)){
+				complete(index,state);
+			}
+		}
+
+		private void timeout(int index){
+			if(states.compareAndSet(index,PENDING,TIMED_OUT)){
+				tasks[index].cancel(true);
+				complete(index,TIMED_OUT);
+			}
+		}
+
+		private void complete(int index,int state){
+			if(timers[index]!=null){
+				timers[index].cancel(false);
+			}
+			if(state!=PASSED&&failfast){
+				if(finished.compareAndSet(false,true)){
+					record(index);
+					future.complete(result);
+				}
+				return;
+			}
+			if(remaining.decrementAndGet()==0&&finished.compareAndSet(false,true)){
+				for(int i=0;i<checks.length;i++){
+					int s=states.get(i);
+					if(s==FAILED||s==TIMED_OUT){
+						record(i);
+					}
+				}
+				future.complete(result);
+			}
+		}
+
+		private void record(int index){
+			ValidationException e=thrown[index];
+			if(e!=null){
+				result.add(e.getCo(),e.getEx(),e.getTemplate(),e.getArgs());
+			}else{
+				result.add(checks[index].co,checks[index].ex);
+			}
+		}
+
+		private void fail(Throwable e){
+			if(finished.compareAndSet(false,true)){
+				future.completeExceptionally(e);
+			}
+		}
+
+		private void cancelAll(){
+			for(int i=0;i<tasks.length;i++){
+				if(states.compareAndSet(i,PENDING,CANCELLED)){
+					tasks[i].cancel(true);
+					if(timers[i]!=null){
+						timers[i].cancel(false);
+					}
+				}
+			}
+		}
+	}
+
+	private final static class Task extends FutureTask<Boolean>{
+		private final Run run;
+		private final int index;
+
+		Task(Run run,int index){
+			super(run.checks[index].check);
+			this.run=run;
+			this.index=index;
+		}
+
+		@Override
+		protected void done(){
+			run.done(index,this);
+		}
+	}
+
+	/*   executor part   */
+	private final static class DefaultExecutor{
+		final static ExecutorService EXECUTOR=Executors.newCachedThreadPool(daemon("lvalidator-async-"));
+	}
+
+	private final static class Scheduler{
+		final static ScheduledThreadPoolExecutor SCHEDULER;
+
+		static{
+			SCHEDULER=new ScheduledThreadPoolExecutor(1,daemon("lvalidator-timeout-"));
+			SCHEDULER.setRemoveOnCancelPolicy(true);
+		}
+	}
+
+	/**
+	 * 功能描述：通过反射获取JDK21的Executors.newVirtualThreadPerTaskExecutor,保持Java 8源码兼容
+	 */
+	private final static class VirtualThreads{
+		final static ExecutorService EXECUTOR;
+
+		static{
+			ExecutorService executor=null;
+			try{
+				Method m=Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+				executor=(ExecutorService)m.invoke(null);
+			}catch(ReflectiveOperationException|RuntimeException e){
+				//JDK21以下不支持
+			}
+			EXECUTOR=executor;
+		}
+	}
+
+	private static ThreadFactory daemon(String prefix){
+		AtomicInteger count=new AtomicInteger();
+		return r->{
+			Thread t=new Thread(r,prefix+count.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		};
+	}
+}
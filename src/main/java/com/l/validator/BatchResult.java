@@ -0,0 +1,130 @@
+package com.l.validator;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 功能描述：批量校验结果,按行号升序紧凑保存失败行及其(co,ex),每行只记录第一个失败的规则
+ * @author: l.sl
+ */
+public final class BatchResult{
+	private final int total;
+	private int[] indexes;
+	private int[] cos;
+	private String[] exs;
+	private int size;
+
+	BatchResult(int total,int capacity){
+		this.total=total;
+		capacity=Math.max(capacity,4);
+		this.indexes=new int[capacity];
+		this.cos=new int[capacity];
+		this.exs=new String[capacity];
+	}
+
+	void add(int index,int co,String ex){
+		if(size==indexes.length){
+			int capacity=size<<1;
+			indexes=Arrays.copyOf(indexes,capacity);
+			cos=Arrays.copyOf(cos,capacity);
+			exs=Arrays.copyOf(exs,capacity);
+		}
+		indexes[size]=index;
+		cos[size]=co;
+		exs[size]=ex;
+		size++;
+	}
+
+	/**
+	 * 功能描述：按顺序追加另一段(行号更大的)结果
+	 */
+	BatchResult append(BatchResult other){
+		if(other.size==0){
+			return this;
+		}
+		int need=size+other.size;
+		if(need>indexes.length){
+			int capacity=Math.max(need,size<<1);
+			indexes=Arrays.copyOf(indexes,capacity);
+			cos=Arrays.copyOf(cos,capacity);
+			exs=Arrays.copyOf(exs,capacity);
+		}
+		System.arraycopy(other.indexes,0,indexes,size,other.size);
+		System.arraycopy(other.cos,0,cos,size,other.size);
+		System.arraycopy(other.exs,0,exs,size,other.size);
+		size=need;
+		return this;
+	}
+
+	/**
+	 * 功能描述：是否全部行都通过
+	 */
+	public boolean isValid(){
+		return size==0;
+	}
+
+	/**
+	 * 功能描述：参与校验的总行数
+	 */
+	public int total(){
+		return total;
+	}
+
+	/**
+	 * 功能描述：失败的行数
+	 */
+	public int size(){
+		return size;
+	}
+
+	/**
+	 * 功能描述：第i个失败行的行号
+	 */
+	public int index(int i){
+		checkIndex(i);
+		return indexes[i];
+	}
+
+	public int getCo(int i){
+		checkIndex(i);
+		return cos[i];
+	}
+
+	public String getEx(int i){
+		checkIndex(i);
+		return exs[i];
+	}
+
+	/**
+	 * 功能描述：失败行号的副本
+	 */
+	public int[] indexes(){
+		return Arrays.copyOf(indexes,size);
+	}
+
+	/**
+	 * 功能描述：失败行的位图
+	 */
+	public BitSet failures(){
+		BitSet bits=new BitSet(total);
+		for(int i=0;i<size;i++){
+			bits.set(indexes[i]);
+		}
+		return bits;
+	}
+
+	private void checkIndex(int i){
+		if(i<0||i>=size){
+			throw new IndexOutOfBoundsException("index:"+i+",size:"+size);
+		}
+	}
+
+	@Override
+	public String toString(){
+		StringBuilder sb=new StringBuilder("BatchResult[total=").append(total).append(",failures=").append(size);
+		for(int i=0;i<size&&i<10;i++){
+			sb.append(i==0?":":",").append(indexes[i]).append("=").append(exs[i]).append("(").append(cos[i]).append(")");
+		}
+		return sb.append(size>10?",...]":"]").toString();
+	}
+}
@@ -0,0 +1,158 @@
+package com.l.validator;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+/**
+ * 功能描述：对行或列数据批量执行校验,不抛出异常,失败行以{@link BatchResult}返回<br/>
+ * 			数据量超过chunkSize时按chunkSize切分,在ForkJoinPool中并行执行,结果按行号有序合并
+ * <pre>
+ * eg:
+ * BatchResult r=BatchValidator.get().validate(rows,plan);
+ * BatchResult ages=BatchValidator.get().chunkSize(16384).validate(ageColumn,a-&gt;a&gt;=0&amp;&amp;a&lt;=150,504,"age error");
+ * </pre>
+ * @author: l.sl
+ */
+public final class BatchValidator{
+	private final static int DEFAULT_CHUNK_SIZE=4096;
+	private final static BatchValidator DEFAULT=new BatchValidator(null,DEFAULT_CHUNK_SIZE);
+	private final ForkJoinPool pool;
+	private final int chunksize;
+
+	private BatchValidator(ForkJoinPool pool,int chunksize){
+		this.pool=pool;
+		this.chunksize=chunksize;
+	}
+
+	/**
+	 * 功能描述：获取使用公共ForkJoinPool、默认分块大小的批量校验器
+	 */
+	public final static BatchValidator get(){
+		return DEFAULT;
+	}
+
+	/**
+	 * 功能描述：返回使用指定分块大小的新校验器,小于等于该大小的数据直接在当前线程执行
+	 */
+	public BatchValidator chunkSize(int chunksize){
+		if(chunksize<=0){
+			throw new IllegalArgumentException("chunk size must be positive:"+chunksize);
+		}
+		return new BatchValidator(pool,chunksize);
+	}
+
+	/**
+	 * 功能描述：返回使用指定线程池的新校验器
+	 */
+	public BatchValidator pool(ForkJoinPool pool){
+		return new BatchValidator(pool,chunksize);
+	}
+
+	/*   rows part   */
+	/**
+	 * 功能描述：对每一行执行校验计划,String[]等对象列同样适用
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> BatchResult validate(List<? extends T> rows,ValidationPlan<? super T> plan){
+		if(!(rows instanceof RandomAccess)){
+			return validate((T[])rows.toArray(),plan);
+		}
+		ValidationPlan<T> p=(ValidationPlan<T>)plan;
+		return run(rows.size(),(i,out)->{
+			int failure=p.firstFailure(rows.get(i));
+			if(failure!=-1){
+				out.add(i,p.co(failure),p.ex(failure));
+			}
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> BatchResult validate(T[] rows,ValidationPlan<? super T> plan){
+		ValidationPlan<T> p=(ValidationPlan<T>)plan;
+		return run(rows.length,(i,out)->{
+			int failure=p.firstFailure(rows[i]);
+			if(failure!=-1){
+				out.add(i,p.co(failure),p.ex(failure));
+			}
+		});
+	}
+
+	/*   column part   */
+	/**
+	 * 功能描述：对int列执行校验,不满足rule的行记录为(co,ex)
+	 */
+	public BatchResult validate(int[] column,IntPredicate rule,int co,String ex){
+		return run(column.length,(i,out)->{
+			if(!rule.test(column[i])){
+				out.add(i,co,ex);
+			}
+		});
+	}
+
+	public BatchResult validate(long[] column,LongPredicate rule,int co,String ex){
+		return run(column.length,(i,out)->{
+			if(!rule.test(column[i])){
+				out.add(i,co,ex);
+			}
+		});
+	}
+
+	public BatchResult validate(double[] column,DoublePredicate rule,int co,String ex){
+		return run(column.length,(i,out)->{
+			if(!rule.test(column[i])){
+				out.add(i,co,ex);
+			}
+		});
+	}
+
+	/*   execute part   */
+	private BatchResult run(int total,RowCheck check){
+		if(total<=chunksize){
+			return new Chunk(check,0,total,chunksize,total).compute();
+		}
+		Chunk task=new Chunk(check,0,total,chunksize,total);
+		return pool==null?ForkJoinPool.commonPool().invoke(task):pool.invoke(task);
+	}
+
+	/**
+	 * 功能描述：校验单行,失败时追加到out
+	 */
+	interface RowCheck{
+		void check(int index,BatchResult out);
+	}
+
+	private final static class Chunk extends RecursiveTask<BatchResult>{
+		private static final long serialVersionUID = 1L;
+		private final RowCheck check;
+		private final int from,to,chunksize,total;
+
+		Chunk(RowCheck check,int from,int to,int chunksize,int total){
+			this.check=check;
+			this.from=from;
+			this.to=to;
+			this.chunksize=chunksize;
+			this.total=total;
+		}
+
+		@Override
+		protected BatchResult compute(){
+			if(to-from<=chunksize){
+				BatchResult out=new BatchResult(total,16);
+				for(int i=from;i<to;i++){
+					check.check(i,out);
+				}
+				return out;
+			}
+			int mid=(from+to)>>>1;
+			Chunk left=new Chunk(check,from,mid,chunksize,total),right=new Chunk(check,mid,to,chunksize,total);
+			right.fork();
+			BatchResult result=left.compute();
+			return result.append(right.join());
+		}
+	}
+}
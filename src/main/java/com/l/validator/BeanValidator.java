@@ -0,0 +1,145 @@
+package com.l.validator;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import com.l.validator.annotation.InRange;
+import com.l.validator.annotation.MobilePhone;
+import com.l.validator.annotation.NotBlank;
+import com.l.validator.annotation.NotNull;
+import com.l.validator.annotation.Numbers;
+import com.l.validator.annotation.PhoneNumber;
+import com.l.validator.annotation.Regex;
+
+/**
+ * 功能描述：基于字段注解的对象校验,注解与{@link Validator}的be*方法一一对应
+ * <pre>
+ * eg:
+ * public class User{
+ * 	&#64;NotBlank(co=501,ex="name required")
+ * 	&#64;InRange(begin=1,end=64,endInclude=true,co=502,ex="name too long")
+ * 	private String name;
+ * 	&#64;MobilePhone(co=503,ex="bad phone")
+ * 	private String phone;
+ * }
+ * BeanValidator.validate(user);//不满足时抛出第一个失败规则的ValidationException
+ * </pre>
+ * 每个类的注解只在第一次校验时解析一次,字段访问被编译为lambda并与规则一起缓存为{@link ValidationPlan},
+ * 之后的校验开销与手写的ValidationPlan相同<br/>
+ * 规则顺序:父类字段在前,同一字段按NotNull,NotBlank,InRange,Numbers,MobilePhone,PhoneNumber,Regex<br/>
+ * 只校验对象自身的字段;需要进入{@link com.l.validator.annotation.Valid}标注的嵌套对象、集合元素时使用{@link DeepValidator}
+ * @author: l.sl
+ */
+public final class BeanValidator{
+	private final static ClassValue<ValidationPlan<Object>> PLANS=new ClassValue<ValidationPlan<Object>>(){
+		protected ValidationPlan<Object> computeValue(Class<?> type){
+			return compile(type);
+		}
+	};
+
+	private BeanValidator(){
+	}
+
+	/**
+	 * 功能描述：校验对象,遇到第一个失败的规则即抛出异常;对象为null时按默认编号抛出
+	 */
+	public final static void validate(Object bean){
+		if(bean==null){
+			throw ExceptionCache.create(Validator.getDefaultThrowMode(),Validator.DCO,Validator.DEX);
+		}
+		plan(bean.getClass()).validate(bean);
+	}
+
+	/**
+	 * 功能描述：校验对象并将全部失败记录到给定结果中
+	 */
+	public final static ValidationResult validate(Object bean,ValidationResult result){
+		if(bean==null){
+			result.add(Validator.DCO,Validator.DEX);
+			return result;
+		}
+		return plan(bean.getClass()).validate(bean,result);
+	}
+
+	/**
+	 * 功能描述：获取(并缓存)给定类型对应的校验计划,可用于预热
+	 */
+	public final static ValidationPlan<Object> plan(Class<?> type){
+		return PLANS.get(type);
+	}
+
+	private static ValidationPlan<Object> compile(Class<?> type){
+		ValidationPlan.Builder<Object> builder=ValidationPlan.builder();
+		for(Field field:fields(type)){
+			compile(field,builder);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * 功能描述：参与校验的实例字段,父类字段在前
+	 */
+	static List<Field> fields(Class<?> type){
+		List<Class<?>> hierarchy=new ArrayList<>();
+		for(Class<?> c=type;c!=null&&c!=Object.class;c=c.getSuperclass()){
+			hierarchy.add(0,c);
+		}
+		List<Field> fields=new ArrayList<>();
+		for(Class<?> c:hierarchy){
+			for(Field field:c.getDeclaredFields()){
+				if(Modifier.isStatic(field.getModifiers())||field.isSynthetic()){
+					continue;
+				}
+				fields.add(field);
+			}
+		}
+		return fields;
+	}
+
+	/**
+	 * 功能描述：把单个字段上的注解规则追加到builder
+	 */
+	@SuppressWarnings({"unchecked","rawtypes"})
+	static void compile(Field field,ValidationPlan.Builder<Object> builder){
+		NotNull notNull=field.getAnnotation(NotNull.class);
+		NotBlank notBlank=field.getAnnotation(NotBlank.class);
+		InRange inRange=field.getAnnotation(InRange.class);
+		Numbers numbers=field.getAnnotation(Numbers.class);
+		MobilePhone mobilePhone=field.getAnnotation(MobilePhone.class);
+		PhoneNumber phoneNumber=field.getAnnotation(PhoneNumber.class);
+		Regex regex=field.getAnnotation(Regex.class);
+		if(notNull==null&&notBlank==null&&inRange==null&&numbers==null&&mobilePhone==null&&phoneNumber==null&&regex==null){
+			return;
+		}
+		Function<Object,Object> getter=Accessors.of(field);
+		Function<Object,String> string=(Function)getter;
+		if((mobilePhone!=null||phoneNumber!=null||regex!=null)&&field.getType()!=String.class){
+			throw new IllegalArgumentException("@MobilePhone/@PhoneNumber/@Regex only support String field:"+field);
+		}
+		if(notNull!=null){
+			builder.notNull(getter,notNull.co(),notNull.ex());
+		}
+		if(notBlank!=null){
+			builder.notBlank(getter,notBlank.co(),notBlank.ex());
+		}
+		if(inRange!=null){
+			builder.inRange(inRange.begin(),inRange.end(),getter,inRange.beginInclude(),inRange.endInclude(),inRange.co(),inRange.ex());
+		}
+		if(numbers!=null){
+			builder.numbers(getter,numbers.co(),numbers.ex());
+		}
+		if(mobilePhone!=null){
+			builder.mobilePhoneNumber(string,mobilePhone.co(),mobilePhone.ex());
+		}
+		if(phoneNumber!=null){
+			builder.phoneNumber(string,phoneNumber.co(),phoneNumber.ex());
+		}
+		if(regex!=null){
+			builder.regExp(string,Pattern.compile(regex.value()),regex.co(),regex.ex());
+		}
+	}
+}
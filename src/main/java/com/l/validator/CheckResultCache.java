@@ -0,0 +1,293 @@
+package com.l.validator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 功能描述：正则校验结果的有界缓存,以(正则,输入)为键,通过{@link Validator#setResultCache(CheckResultCache)}启用<br/>
+ * 			只缓存需由Pattern回溯匹配的正则;编译为DFA的正则(含手机号、电话号码)与数字格式扫描只需一次线性扫描,与查找缓存的开销相当,不经过缓存;<br/>
+ * 			结构为8路组相联表:每个输入只落在一组的8个槽位中,读取无锁,写入以CAS替换槽位,不需要全局锁或淘汰队列;<br/>
+ * 			淘汰近似W-TinyLFU:以4位计数的Count-Min Sketch估计访问频率,组满时只有估计频率高于组内最低者的新值才会被接纳,计数定期减半以适应热点变化;<br/>
+ * 			长度超过maxInputLength的输入从不缓存,总权重(已缓存输入的字符数之和)不超过maxWeight
+ * <pre>
+ * eg:
+ * Validator.setResultCache(new CheckResultCache(4096,32,Long.MAX_VALUE));
+ * ...
+ * Validator.getResultCache().hitRate();
+ * </pre>
+ * @author: l.sl
+ */
+public final class CheckResultCache{
+	public final static int DEFAULT_MAX_INPUT_LENGTH=64;
+	final static int ABSENT=-1,FALSE=0,TRUE=1;
+	private final static int WAYS=8;
+	private final AtomicReferenceArray<Entry> table;
+	private final int bucketmask;
+	private final int maxinputlength;
+	private final long maxweight;
+	private final Sketch sketch;
+	private final AtomicInteger size=new AtomicInteger();
+	private final AtomicLong weight=new AtomicLong();
+	private final LongAdder hits=new LongAdder(),misses=new LongAdder(),evictions=new LongAdder(),
+			rejections=new LongAdder(),bypasses=new LongAdder();
+
+	public CheckResultCache(int capacity){
+		this(capacity,DEFAULT_MAX_INPUT_LENGTH,Long.MAX_VALUE);
+	}
+
+	/**
+	 * 功能描述：capacity向上取整为8的2次幂倍数;maxWeight为已缓存输入的字符数上限
+	 */
+	public CheckResultCache(int capacity,int maxInputLength,long maxWeight){
+		if(capacity<=0){
+			throw new IllegalArgumentException("capacity must be positive:"+capacity);
+		}
+		if(maxInputLength<0){
+			throw new IllegalArgumentException("maxInputLength must not be negative:"+maxInputLength);
+		}
+		if(maxWeight<=0){
+			throw new IllegalArgumentException("maxWeight must be positive:"+maxWeight);
+		}
+		int n=(Math.min(capacity,1<<27)+WAYS-1)/WAYS;
+		int buckets=n<=1?1:Integer.highestOneBit(n-1)<<1;
+		this.table=new AtomicReferenceArray<>(buckets*WAYS);
+		this.bucketmask=buckets-1;
+		this.maxinputlength=maxInputLength;
+		this.maxweight=maxWeight;
+		this.sketch=new Sketch(buckets*WAYS);
+	}
+
+	/*   access part   */
+	/**
+	 * 功能描述：查找缓存的结果,返回{@link #TRUE}/{@link #FALSE},未命中或输入过长时返回{@link #ABSENT}
+	 */
+	int get(Object rule,String input){
+		if(input.length()>maxinputlength){
+			bypasses.increment();
+			return ABSENT;
+		}
+		int h=hash(rule,input);
+		sketch.increment(h);
+		int base=(h&bucketmask)*WAYS;
+		for(int i=0;i<WAYS;i++){
+			Entry e=table.get(base+i);
+			if(e!=null&&e.matches(h,rule,input)){
+				hits.increment();
+				return e.result?TRUE:FALSE;
+			}
+		}
+		misses.increment();
+		return ABSENT;
+	}
+
+	/**
+	 * 功能描述：写入结果;组内有空槽时直接占用,否则与组内估计频率最低的条目比较,新值频率更高才替换
+	 */
+	void put(Object rule,String input,boolean result){
+		int len=input.length();
+		if(len>maxinputlength){
+			return;
+		}
+		int h=hash(rule,input);
+		int base=(h&bucketmask)*WAYS;
+		Entry victim=null;
+		int slot=-1,frequency=Integer.MAX_VALUE;
+		for(int i=0;i<WAYS;i++){
+			Entry e=table.get(base+i);
+			if(e==null){
+				if(reserve(len)){
+					if(table.compareAndSet(base+i,null,new Entry(rule,input,h,result))){
+						size.incrementAndGet();
+						return;
+					}
+					weight.addAndGet(-len);
+				}
+				continue;
+			}
+			if(e.matches(h,rule,input)){
+				return;
+			}
+			int f=sketch.frequency(e.hash);
+			if(f<frequency){
+				frequency=f;
+				victim=e;
+				slot=base+i;
+			}
+		}
+		if(victim==null||sketch.frequency(h)<=frequency||!reserve(len-victim.input.length())){
+			rejections.increment();
+			return;
+		}
+		if(table.compareAndSet(slot,victim,new Entry(rule,input,h,result))){
+			evictions.increment();
+		}else{
+			weight.addAndGet(victim.input.length()-len);
+			rejections.increment();
+		}
+	}
+
+	private boolean reserve(int delta){
+		for(;;){
+			long current=weight.get();
+			if(delta>0&&current+delta>maxweight){
+				return false;
+			}
+			if(weight.compareAndSet(current,current+delta)){
+				return true;
+			}
+		}
+	}
+
+	private static int hash(Object rule,String input){
+		return StringCandidateSet.mix(rule.hashCode()*0x9E3779B9+input.hashCode());
+	}
+
+	/**
+	 * 功能描述：清空缓存,命中统计与频率估计不受影响
+	 */
+	public void clear(){
+		for(int i=0;i<table.length();i++){
+			Entry e=table.getAndSet(i,null);
+			if(e!=null){
+				size.decrementAndGet();
+				weight.addAndGet(-e.input.length());
+			}
+		}
+	}
+
+	/*   statistics part   */
+	public int capacity(){
+		return table.length();
+	}
+
+	public int size(){
+		return size.get();
+	}
+
+	public long weight(){
+		return weight.get();
+	}
+
+	public long maxWeight(){
+		return maxweight;
+	}
+
+	public int maxInputLength(){
+		return maxinputlength;
+	}
+
+	public long hitCount(){
+		return hits.sum();
+	}
+
+	public long missCount(){
+		return misses.sum();
+	}
+
+	/**
+	 * 功能描述：命中次数/(命中次数+未命中次数),输入过长而未查找的不计入;尚无查找时为0
+	 */
+	public double hitRate(){
+		long h=hits.sum(),total=h+misses.sum();
+		return total==0?0:(double)h/total;
+	}
+
+	public long evictionCount(){
+		return evictions.sum();
+	}
+
+	/**
+	 * 功能描述：因估计频率不高于被替换者或超出权重上限而未被接纳的次数
+	 */
+	public long rejectionCount(){
+		return rejections.sum();
+	}
+
+	/**
+	 * 功能描述：输入长度超过maxInputLength而直接计算的次数
+	 */
+	public long bypassCount(){
+		return bypasses.sum();
+	}
+
+	@Override
+	public String toString(){
+		return "CheckResultCache[size="+size()+",capacity="+capacity()+",weight="+weight()+",hits="+hitCount()+",misses="+missCount()
+			+",evictions="+evictionCount()+",rejections="+rejectionCount()+",bypasses="+bypassCount()+"]";
+	}
+
+	/*   structure part   */
+	private final static class Entry{
+		final Object rule;
+		final String input;
+		final int hash;
+		final boolean result;
+
+		Entry(Object rule,String input,int hash,boolean result){
+			this.rule=rule;
+			this.input=input;
+			this.hash=hash;
+			this.result=result;
+		}
+
+		boolean matches(int hash,Object rule,String input){
+			return this.hash==hash&&(this.rule==rule||this.rule.equals(rule))&&this.input.equals(input);
+		}
+	}
+
+	/**
+	 * 功能描述：4行Count-Min Sketch,每个int存8个4位计数;<br/>
+	 * 			计数的读改写不加锁,并发下偶有丢失,只影响频率估计的精度;累计增加次数达到槽位数的10倍时全部减半
+	 */
+	private final static class Sketch{
+		private final static int[] SEEDS={0x97CB3127,0xB492B66F,0x9AE16A3B,0xCBF29CE5};
+		private final int[] counters;
+		private final int mask;
+		private final int samplesize;
+		private int additions;
+
+		Sketch(int slots){
+			this.counters=new int[slots];
+			this.mask=slots*8-1;
+			this.samplesize=slots*10;
+		}
+
+		void increment(int h){
+			boolean added=false;
+			for(int seed:SEEDS){
+				int index=index(h,seed),word=index>>>3,shift=(index&7)<<2;
+				int v=counters[word];
+				if(((v>>>shift)&0xF)<0xF){
+					counters[word]=v+(1<<shift);
+					added=true;
+				}
+			}
+			if(added&&++additions>=samplesize){
+				reset();
+			}
+		}
+
+		int frequency(int h){
+			int min=0xF;
+			for(int seed:SEEDS){
+				int index=index(h,seed);
+				min=Math.min(min,(counters[index>>>3]>>>((index&7)<<2))&0xF);
+			}
+			return min;
+		}
+
+		private int index(int h,int seed){
+			int x=h*seed;
+			return (x^(x>>>16))&mask;
+		}
+
+		private void reset(){
+			additions=samplesize>>>1;
+			for(int i=0;i<counters.length;i++){
+				counters[i]=(counters[i]>>>1)&0x77777777;
+			}
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package com.l.validator;
+
+/**
+ * 功能描述：{@link Validator}的校验种类,用于{@link ValidationMetrics}按种类统计,原始类型版本(如beInRangeInt)与对应的Number版本归为同一种类
+ * @author: l.sl
+ */
+public enum CheckType{
+	TRUE,
+	FALSE,
+	NULL,
+	NOT_NULL,
+	EQUAL,
+	NOT_EQUAL,
+	EQUAL_NULLABLE,
+	NOT_EQUAL_NULLABLE,
+	NOT_BLANK,
+	BLANK,
+	IN_RANGE,
+	NOT_IN_RANGE,
+	LESS_THAN,
+	GREATER_THAN,
+	IN,
+	NOT_IN,
+	CONTAINS,
+	NOT_CONTAINS,
+	NUMBERS,
+	INT_NUMBERS,
+	LONG_NUMBERS,
+	DECIMAL_NUMBERS,
+	MOBILE_PHONE_NUMBER,
+	PHONE_NUMBER,
+	REGEXP,
+	UTF8_IN_RANGE,
+	UTF8_DIGITS,
+	UTF8_NUMBERS,
+	UTF8_MOBILE_PHONE_NUMBER,
+	UTF8_PHONE_NUMBER,
+	UTF8_CONTAINS
+}
@@ -0,0 +1,321 @@
+package com.l.validator;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * 功能描述：无状态的校验判定逻辑,{@link Validator}与{@link ValidationPlan}共用,保证两者语义一致<br/>
+ * 			返回{@link #PASS}/{@link #FAIL}/{@link #UNKNOWN_TYPE},由调用方决定抛出或记录何种异常
+ * @author: l.sl
+ */
+final class Checks{
+	final static int PASS=0,FAIL=1,UNKNOWN_TYPE=2;
+	final static Pattern MOBILE_PHONE_PATTERN=Pattern.compile("^[1][3,4,5,7,8,9][0-9]{9}$"),
+			PHONE_PATTERN=Pattern.compile("^[1-9]{1}[0-9]{5,8}$"),
+			AREA_PHONE_PATTERN=Pattern.compile("^[0][1-9]{2,3}-[0-9]{5,10}$");
+	final static RegExpMatcher MOBILE_PHONE_MATCHER=RegExpMatcher.of(MOBILE_PHONE_PATTERN),
+			PHONE_MATCHER=RegExpMatcher.of(PHONE_PATTERN),
+			AREA_PHONE_MATCHER=RegExpMatcher.of(AREA_PHONE_PATTERN);
+
+	private Checks(){
+	}
+
+	static int of(boolean exp){
+		return exp?PASS:FAIL;
+	}
+
+	/*   blank part   */
+	static int notBlank(Object o){
+		if(o==null){
+			return FAIL;
+		}
+		if(o.getClass()==String.class){
+			return of(((String) o).length()>0);
+		}
+		TypeAdapter<Object> adapter=TypeAdapters.of(o.getClass());
+		return adapter==null?UNKNOWN_TYPE:of(adapter.isNotBlank(o));
+	}
+
+	static int blank(Object o){
+		if(o==null){
+			return FAIL;
+		}
+		if(o.getClass()==String.class){
+			return of(((String) o).length()==0);
+		}
+		TypeAdapter<Object> adapter=TypeAdapters.of(o.getClass());
+		return adapter==null?UNKNOWN_TYPE:of(adapter.isBlank(o));
+	}
+
+	/*   range part   */
+	/**
+	 * 功能描述：计算对象的长度(数字类型为其值),需要逐个计数的类型超过limit后停止,未知类型返回NaN<br/>
+	 * 			范围判断只需知道长度是否超过max(begin,end),因此迭代器/流最多读取max(begin,end)+1个元素
+	 */
+	static double size(Object o,double limit){
+		if(o.getClass()==String.class){
+			return ((String) o).length();
+		}
+		TypeAdapter<Object> adapter=TypeAdapters.of(o.getClass());
+		return adapter==null?Double.NaN:adapter.size(o,limit);
+	}
+
+	static int inRange(Number begin,Number end,Object o,boolean beginInclude,boolean endInclude){
+		if(o==null||begin==null||end==null){
+			return FAIL;
+		}
+		double be=begin.doubleValue(),en=end.doubleValue();
+		double len=size(o,Math.max(be,en));
+		if(Double.isNaN(len)){
+			return UNKNOWN_TYPE;
+		}
+		return of((beginInclude?be<=len:be<len)&&(endInclude?len<=en:len<en));
+	}
+
+	static int notInRange(Number begin,Number end,Object o,boolean beginInclude,boolean endInclude){
+		if(o==null||begin==null||end==null){
+			return FAIL;
+		}
+		double be=begin.doubleValue(),en=end.doubleValue();
+		double len=size(o,Math.max(be,en));
+		if(Double.isNaN(len)){
+			return UNKNOWN_TYPE;
+		}
+		return of((beginInclude?len<=be:len<be)||(endInclude?len>=en:len>en));
+	}
+
+	static boolean lessThan(Number data,Number target,boolean targetInclude){
+		if(data==null||target==null){
+			return false;
+		}
+		double ddata=data.doubleValue(),tdata=target.doubleValue();
+		return targetInclude?ddata<=tdata:ddata<tdata;
+	}
+
+	static boolean greaterThan(Number data,Number target,boolean targetInclude){
+		if(data==null||target==null){
+			return false;
+		}
+		double ddata=data.doubleValue(),tdata=target.doubleValue();
+		return targetInclude?ddata>=tdata:ddata>tdata;
+	}
+
+	/*   primitive range part   */
+	static boolean inRange(long begin,long end,long o,boolean beginInclude,boolean endInclude){
+		return (beginInclude?begin<=o:begin<o)&&(endInclude?o<=end:o<end);
+	}
+
+	static boolean notInRange(long begin,long end,long o,boolean beginInclude,boolean endInclude){
+		return (beginInclude?o<=begin:o<begin)||(endInclude?o>=end:o>end);
+	}
+
+	static boolean inRange(double begin,double end,double o,boolean beginInclude,boolean endInclude){
+		return (beginInclude?begin<=o:begin<o)&&(endInclude?o<=end:o<end);
+	}
+
+	static boolean notInRange(double begin,double end,double o,boolean beginInclude,boolean endInclude){
+		return (beginInclude?o<=begin:o<begin)||(endInclude?o>=end:o>end);
+	}
+
+	static boolean lessThan(long data,long target,boolean targetInclude){
+		return targetInclude?data<=target:data<target;
+	}
+
+	static boolean lessThan(double data,double target,boolean targetInclude){
+		return targetInclude?data<=target:data<target;
+	}
+
+	static boolean greaterThan(long data,long target,boolean targetInclude){
+		return targetInclude?data>=target:data>target;
+	}
+
+	static boolean greaterThan(double data,double target,boolean targetInclude){
+		return targetInclude?data>=target:data>target;
+	}
+
+	/*   in part   */
+	static boolean in(Object o,Object[] target){
+		if(o==null||target.length==0){
+			return false;
+		}
+		for(Object tmpo : target){
+			if(o.equals(tmpo)){
+				return true;
+			}
+		}
+		return false;
+	}
+
+	static boolean notIn(Object o,Object[] target){
+		if(o==null){
+			return false;
+		}
+		for(Object tmpo : target){
+			if(o.equals(tmpo)){
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static boolean in(Object o,Set<?> target){
+		return o!=null&&target!=null&&target.contains(o);
+	}
+
+	static boolean notIn(Object o,Set<?> target){
+		return o!=null&&target!=null&&!target.contains(o);
+	}
+
+	/*   contains part   */
+	static int contains(Object o1,Object o2){
+		if(o1==null||o2==null){
+			return FAIL;
+		}
+		if(o2.getClass()==String.class){
+			return of(((String) o2).contains(o1.toString()));
+		}
+		TypeAdapter<Object> adapter=TypeAdapters.of(o2.getClass());
+		if(adapter==null){
+			return UNKNOWN_TYPE;
+		}
+		try{
+			return of(adapter.contains(o2,o1));
+		}catch(UnsupportedOperationException e){
+			return UNKNOWN_TYPE;
+		}
+	}
+
+	static int notContains(Object o1,Object o2){
+		if(o1==null||o2==null){
+			return FAIL;
+		}
+		int status=contains(o1,o2);
+		return status==UNKNOWN_TYPE?UNKNOWN_TYPE:of(status==FAIL);
+	}
+
+	/*   number part   */
+	static boolean numbers(Object o){
+		if(o instanceof Number) return true;
+		if(o==null){
+			return false;
+		}
+		return NumberScanner.isNumber(o instanceof CharSequence?(CharSequence)o:o.toString());
+	}
+
+	static boolean integral(Object o,long min,long max){
+		if(o==null){
+			return false;
+		}
+		if(o instanceof Number){
+			return integral((Number)o,min,max);
+		}
+		return NumberScanner.isIntegral(o instanceof CharSequence?(CharSequence)o:o.toString(),min,max);
+	}
+
+	private static boolean integral(Number n,long min,long max){
+		if(n instanceof Integer||n instanceof Long||n instanceof Short||n instanceof Byte
+				||n instanceof AtomicInteger||n instanceof AtomicLong){
+			long v=n.longValue();
+			return v>=min&&v<=max;
+		}else if(n instanceof BigInteger){
+			BigInteger b=(BigInteger)n;
+			return b.bitLength()<64&&b.longValue()>=min&&b.longValue()<=max;
+		}else if(n instanceof BigDecimal){
+			try{
+				long v=((BigDecimal)n).longValueExact();
+				return v>=min&&v<=max;
+			}catch(ArithmeticException e){
+				return false;
+			}
+		}
+		double d=n.doubleValue();
+		return d==Math.rint(d)&&d>=min&&d<(double)max+1;
+	}
+
+	static boolean decimal(Object o,int precision,int scale){
+		if(o==null){
+			return false;
+		}
+		return NumberScanner.isDecimal(o instanceof CharSequence?(CharSequence)o:o.toString(),precision,scale);
+	}
+
+	/*   utf8 part   */
+	static boolean utf8InRange(int begin,int end,Utf8Scanner.Bytes b,boolean beginInclude,boolean endInclude){
+		if(b==null){
+			return false;
+		}
+		long len=Utf8Scanner.codePoints(b,Math.max(begin,end));
+		return len>=0&&inRange((long)begin,(long)end,len,beginInclude,endInclude);
+	}
+
+	static boolean utf8Digits(Utf8Scanner.Bytes b){
+		return b!=null&&Utf8Scanner.digits(b);
+	}
+
+	static boolean utf8Numbers(Utf8Scanner.Bytes b){
+		return b!=null&&NumberScanner.isNumber(b);
+	}
+
+	static boolean utf8MobilePhoneNumber(Utf8Scanner.Bytes b){
+		return b!=null&&Utf8Scanner.mobilePhoneNumber(b);
+	}
+
+	static boolean utf8PhoneNumber(Utf8Scanner.Bytes b){
+		return b!=null&&Utf8Scanner.phoneNumber(b);
+	}
+
+	static boolean utf8Contains(byte[] target,Utf8Scanner.Bytes b){
+		return target!=null&&b!=null&&Utf8Scanner.contains(b,target);
+	}
+
+	/*   regexp part   */
+	static boolean matches(String content,Pattern pattern){
+		if(content==null||pattern==null){
+			return false;
+		}
+		CheckResultCache cache=Validator.resultcache;
+		return cache==null?pattern.matcher(content).matches():cached(cache,pattern,content);
+	}
+
+	/**
+	 * 功能描述：编译为DFA的匹配器只需一次线性扫描,与查找缓存(计算hashCode、比较字符串)的开销相当,不经过{@link CheckResultCache}
+	 */
+	static boolean matches(String content,RegExpMatcher matcher){
+		if(content==null||matcher==null){
+			return false;
+		}
+		CheckResultCache cache=Validator.resultcache;
+		return cache==null||matcher.isCompiled()?matcher.matches(content):cached(cache,matcher,content);
+	}
+
+	static boolean mobilePhoneNumber(String number){
+		return matches(number,MOBILE_PHONE_MATCHER);
+	}
+
+	static boolean phoneNumber(String number){
+		if(number==null){
+			return false;
+		}
+		//未包含区号
+		if(number.indexOf("-")==-1){
+			return matches(number,PHONE_MATCHER);
+		}else{//有区号
+			return matches(number,AREA_PHONE_MATCHER);
+		}
+	}
+
+	/*   cache part   */
+	private static boolean cached(CheckResultCache cache,Object rule,String input){
+		int cached=cache.get(rule,input);
+		if(cached!=CheckResultCache.ABSENT){
+			return cached==CheckResultCache.TRUE;
+		}
+		boolean result=rule instanceof Pattern?((Pattern)rule).matcher(input).matches():((RegExpMatcher)rule).matches(input);
+		cache.put(rule,input,result);
+		return result;
+	}
+}
@@ -0,0 +1,495 @@
+package com.l.validator;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import com.l.validator.annotation.Valid;
+
+/**
+ * 功能描述：对象图的递归校验,对象按{@link BeanValidator}的字段注解校验,并进入{@link Valid}标注的字段;Collection、Map的值、对象数组逐个元素校验<br/>
+ * 			按对象身份检测循环引用(当前路径上已出现的对象不再进入),超过maxDepth层时记录{@link #DEPTH_CO};<br/>
+ * 			失败路径(如items[3].price)由路径栈在失败时才拼接,校验通过时不产生字符串;<br/>
+ * 			元素数超过chunkSize的List与数组切分后在ForkJoinPool中并行校验,结果按元素顺序合并,与顺序执行一致
+ * <pre>
+ * eg:
+ * public class Order{
+ * 	&#64;Valid
+ * 	private List&lt;Item&gt; items;
+ * }
+ * public class Item{
+ * 	&#64;InRange(begin=0,end=10000,co=502,ex="bad price")
+ * 	private BigDecimal price;
+ * }
+ * ValidationResult r=DeepValidator.get().validate(order,new ValidationResult());
+ * r.getPath(0);//items[3].price
+ * DeepValidator.get().each(items,plan);//对每个元素执行校验计划,失败时抛出带路径的异常
+ * </pre>
+ * @author: l.sl
+ */
+public final class DeepValidator{
+	/** 对象图超过最大深度时的异常编号 */
+	public final static int DEPTH_CO=-0x2;
+	final static String DEPTH_EX="超过最大校验深度";
+	private final static int DEFAULT_MAX_DEPTH=32,DEFAULT_CHUNK_SIZE=4096;
+	private final static DeepValidator DEFAULT=new DeepValidator(DEFAULT_MAX_DEPTH,DEFAULT_CHUNK_SIZE,null,null);
+	private final static ClassValue<Node> NODES=new ClassValue<Node>(){
+		protected Node computeValue(Class<?> type){
+			return Node.compile(type);
+		}
+	};
+	/** 路径栈中索引之外的两类帧 */
+	private final static int KEY=-1,FIELD=-2;
+	private final int maxdepth;
+	private final int chunksize;
+	private final ForkJoinPool pool;
+	private final ThrowMode throwmode;
+
+	private DeepValidator(int maxdepth,int chunksize,ForkJoinPool pool,ThrowMode throwmode){
+		this.maxdepth=maxdepth;
+		this.chunksize=chunksize;
+		this.pool=pool;
+		this.throwmode=throwmode;
+	}
+
+	/**
+	 * 功能描述：获取最大深度32、使用公共ForkJoinPool、默认分块大小的校验器
+	 */
+	public final static DeepValidator get(){
+		return DEFAULT;
+	}
+
+	/**
+	 * 功能描述：返回使用指定最大深度的新校验器,根对象为第1层,集合与其中的元素各占一层
+	 */
+	public DeepValidator maxDepth(int maxdepth){
+		if(maxdepth<=0){
+			throw new IllegalArgumentException("max depth must be positive:"+maxdepth);
+		}
+		return new DeepValidator(maxdepth,chunksize,pool,throwmode);
+	}
+
+	/**
+	 * 功能描述：返回使用指定分块大小的新校验器,元素数不超过该大小的集合直接在当前线程校验
+	 */
+	public DeepValidator chunkSize(int chunksize){
+		if(chunksize<=0){
+			throw new IllegalArgumentException("chunk size must be positive:"+chunksize);
+		}
+		return new DeepValidator(maxdepth,chunksize,pool,throwmode);
+	}
+
+	/**
+	 * 功能描述：返回使用指定线程池的新校验器
+	 */
+	public DeepValidator pool(ForkJoinPool pool){
+		return new DeepValidator(maxdepth,chunksize,pool,throwmode);
+	}
+
+	/**
+	 * 功能描述：返回使用指定异常构造方式的新校验器,未指定时使用{@link Validator#getDefaultThrowMode()};CACHED的共享异常无法携带路径,退化为STACKLESS
+	 */
+	public DeepValidator throwMode(ThrowMode mode){
+		return new DeepValidator(maxdepth,chunksize,pool,mode==null?ThrowMode.STACK_TRACE:mode);
+	}
+
+	/*   graph part   */
+	/**
+	 * 功能描述：递归校验对象图,遇到第一个失败(按字段与元素顺序)即抛出带路径的异常;对象为null时按默认编号抛出
+	 */
+	public void validate(Object target){
+		if(target==null){
+			throw ExceptionCache.create(mode(),Validator.DCO,Validator.DEX);
+		}
+		Walk walk=new Walk(this,new ValidationResult(1),true);
+		walk.walk(target);
+		throwIfInvalid(walk.result);
+	}
+
+	/**
+	 * 功能描述：递归校验对象图并将全部失败及其路径记录到给定结果中
+	 */
+	public ValidationResult validate(Object target,ValidationResult result){
+		if(target==null){
+			result.add(Validator.DCO,Validator.DEX);
+			return result;
+		}
+		new Walk(this,result,false).walk(target);
+		return result;
+	}
+
+	/*   each part   */
+	/**
+	 * 功能描述：对每个元素执行校验计划(不进入元素的嵌套字段),遇到第一个失败即抛出路径为[index]的异常;null元素按默认编号失败
+	 */
+	public <T> void each(Collection<? extends T> elements,ValidationPlan<? super T> plan){
+		throwIfInvalid(each(elements,plan,new ValidationResult(1),true));
+	}
+
+	public <T> ValidationResult each(Collection<? extends T> elements,ValidationPlan<? super T> plan,ValidationResult result){
+		return each(elements,plan,result,false);
+	}
+
+	public <T> void each(T[] elements,ValidationPlan<? super T> plan){
+		throwIfInvalid(each(Arrays.asList(elements),plan,new ValidationResult(1),true));
+	}
+
+	public <T> ValidationResult each(T[] elements,ValidationPlan<? super T> plan,ValidationResult result){
+		return each(Arrays.asList(elements),plan,result,false);
+	}
+
+	/**
+	 * 功能描述：对Map的每个值执行校验计划,路径为[key]
+	 */
+	public <T> void each(Map<?,? extends T> elements,ValidationPlan<? super T> plan){
+		throwIfInvalid(each(elements,plan,new ValidationResult(1),true));
+	}
+
+	public <T> ValidationResult each(Map<?,? extends T> elements,ValidationPlan<? super T> plan,ValidationResult result){
+		return each(elements,plan,result,false);
+	}
+
+	@SuppressWarnings("unchecked")
+	private ValidationResult each(Object elements,ValidationPlan<?> plan,ValidationResult result,boolean failfast){
+		Walk walk=new Walk(this,result,failfast);
+		ValidationPlan<Object> p=(ValidationPlan<Object>)plan;
+		walk.container(elements,(w,e)->w.check(e,p));
+		return result;
+	}
+
+	/*   exception part   */
+	private ThrowMode mode(){
+		return throwmode==null?Validator.getDefaultThrowMode():throwmode;
+	}
+
+	private void throwIfInvalid(ValidationResult result){
+		if(result.isValid()){
+			return;
+		}
+		ThrowMode mode=mode();
+		ValidationException e=ExceptionCache.create(mode==ThrowMode.CACHED?ThrowMode.STACKLESS:mode,result.getCo(0),result.getEx(0),result.getTemplate(0),result.getArgs(0));
+		throw e.path(result.getPath(0));
+	}
+
+	/*   walk part   */
+	/**
+	 * 功能描述：对单个元素的处理,递归校验或执行给定计划
+	 */
+	interface Visit{
+		void visit(Walk walk,Object element);
+	}
+
+	private final static Visit DESCEND=Walk::walk;
+
+	/**
+	 * 功能描述：一次遍历的状态,非线程安全;并行分块时每块复制一份路径栈与祖先栈
+	 */
+	final static class Walk{
+		private final DeepValidator config;
+		final ValidationResult result;
+		private final boolean failfast;
+		/** 路径栈:labels为字段名或Map的键,indexes为元素下标或KEY/FIELD */
+		private Object[] labels;
+		private int[] indexes;
+		private int depth;
+		/** 当前路径上已进入的对象(祖先),用于按身份检测循环引用与限制深度 */
+		private Object[] ancestors;
+		private int level;
+		private boolean stopped;
+
+		Walk(DeepValidator config,ValidationResult result,boolean failfast){
+			this.config=config;
+			this.result=result;
+			this.failfast=failfast;
+			this.labels=new Object[8];
+			this.indexes=new int[8];
+			this.ancestors=new Object[8];
+		}
+
+		private Walk(Walk parent,ValidationResult result){
+			this.config=parent.config;
+			this.result=result;
+			this.failfast=parent.failfast;
+			this.labels=Arrays.copyOf(parent.labels,parent.labels.length);
+			this.indexes=Arrays.copyOf(parent.indexes,parent.indexes.length);
+			this.depth=parent.depth;
+			this.ancestors=Arrays.copyOf(parent.ancestors,parent.ancestors.length);
+			this.level=parent.level;
+		}
+
+		void walk(Object value){
+			if(value==null||stopped){
+				return;
+			}
+			Class<?> type=value.getClass();
+			if(value instanceof Collection||value instanceof Map||type.isArray()&&!type.getComponentType().isPrimitive()){
+				container(value,DESCEND);
+				return;
+			}
+			Node node=NODES.get(type);
+			if(node.empty||!enter(value)){
+				return;
+			}
+			bean(value,node);
+			level--;
+		}
+
+		void container(Object value,Visit visit){
+			if(!enter(value)){
+				return;
+			}
+			if(value instanceof Map){
+				for(Map.Entry<?,?> e:((Map<?,?>)value).entrySet()){
+					if(stopped){
+						break;
+					}
+					push(e.getKey(),KEY);
+					visit.visit(this,e.getValue());
+					depth--;
+				}
+			}else if(value instanceof List&&value instanceof RandomAccess){
+				List<?> list=(List<?>)value;
+				elements(list.size(),list::get,visit);
+			}else if(value instanceof Collection){
+				int i=0;
+				for(Object e:(Collection<?>)value){
+					if(stopped){
+						break;
+					}
+					push(null,i++);
+					visit.visit(this,e);
+					depth--;
+				}
+			}else{
+				Object[] array=(Object[])value;
+				elements(array.length,i->array[i],visit);
+			}
+			level--;
+		}
+
+		private void elements(int size,IntFunction<Object> element,Visit visit){
+			if(size>config.chunksize){
+				parallel(size,element,visit);
+				return;
+			}
+			for(int i=0;i<size&&!stopped;i++){
+				push(null,i);
+				visit.visit(this,element.apply(i));
+				depth--;
+			}
+		}
+
+		private void parallel(int size,IntFunction<Object> element,Visit visit){
+			Chunk task=new Chunk(this,element,visit,0,size,new AtomicInteger(Integer.MAX_VALUE));
+			ValidationResult merged;
+			if(ForkJoinTask.inForkJoinPool()){
+				merged=task.invoke();
+			}else{
+				merged=config.pool==null?ForkJoinPool.commonPool().invoke(task):config.pool.invoke(task);
+			}
+			if(merged.size()>0){
+				result.append(merged);
+				stopped=failfast;
+			}
+		}
+
+		private void bean(Object bean,Node node){
+			for(int i=0;i<node.names.length&&!stopped;i++){
+				ValidationPlan<Object> plan=node.plans[i];
+				if(plan!=null){
+					int from=result.size();
+					if(failfast){
+						int failure=plan.firstFailure(bean);
+						if(failure!=-1){
+							result.add(plan.co(failure),plan.ex(failure));
+						}
+					}else{
+						plan.validate(bean,result);
+					}
+					if(result.size()>from){
+						push(node.names[i],FIELD);
+						fail(from);
+						depth--;
+						if(stopped){
+							return;
+						}
+					}
+				}
+				Function<Object,Object> getter=node.nested[i];
+				if(getter!=null){
+					push(node.names[i],FIELD);
+					walk(getter.apply(bean));
+					depth--;
+				}
+			}
+		}
+
+		void check(Object element,ValidationPlan<Object> plan){
+			int from=result.size();
+			if(element==null){
+				result.add(Validator.DCO,Validator.DEX);
+			}else if(failfast){
+				int failure=plan.firstFailure(element);
+				if(failure!=-1){
+					result.add(plan.co(failure),plan.ex(failure));
+				}
+			}else{
+				plan.validate(element,result);
+			}
+			if(result.size()>from){
+				fail(from);
+			}
+		}
+
+		/**
+		 * 功能描述：进入对象或集合;已在当前路径上(循环引用)时跳过,超过最大深度时记录失败
+		 */
+		private boolean enter(Object value){
+			for(int i=0;i<level;i++){
+				if(ancestors[i]==value){
+					return false;
+				}
+			}
+			if(level>=config.maxdepth){
+				int from=result.size();
+				result.add(DEPTH_CO,DEPTH_EX);
+				fail(from);
+				return false;
+			}
+			if(level==ancestors.length){
+				ancestors=Arrays.copyOf(ancestors,level<<1);
+			}
+			ancestors[level++]=value;
+			return true;
+		}
+
+		private void push(Object label,int index){
+			if(depth==labels.length){
+				labels=Arrays.copyOf(labels,depth<<1);
+				indexes=Arrays.copyOf(indexes,depth<<1);
+			}
+			labels[depth]=label;
+			indexes[depth++]=index;
+		}
+
+		private void fail(int from){
+			result.path(from,path());
+			stopped=failfast;
+		}
+
+		/**
+		 * 功能描述：拼接当前路径,只在失败时调用
+		 */
+		String path(){
+			StringBuilder sb=new StringBuilder(depth*8);
+			for(int i=0;i<depth;i++){
+				if(indexes[i]==FIELD){
+					if(sb.length()>0){
+						sb.append('.');
+					}
+					sb.append(labels[i]);
+				}else if(indexes[i]==KEY){
+					sb.append('[').append(labels[i]).append(']');
+				}else{
+					sb.append('[').append(indexes[i]).append(']');
+				}
+			}
+			return sb.toString();
+		}
+	}
+
+	/**
+	 * 功能描述：并行校验一段元素;快速失败时以first记录已知最小的失败下标,其后的元素不再校验,合并后的第一个失败与顺序执行一致
+	 */
+	private final static class Chunk extends RecursiveTask<ValidationResult>{
+		private static final long serialVersionUID = 1L;
+		private final Walk parent;
+		private final IntFunction<Object> element;
+		private final Visit visit;
+		private final int from,to;
+		private final AtomicInteger first;
+
+		Chunk(Walk parent,IntFunction<Object> element,Visit visit,int from,int to,AtomicInteger first){
+			this.parent=parent;
+			this.element=element;
+			this.visit=visit;
+			this.from=from;
+			this.to=to;
+			this.first=first;
+		}
+
+		@Override
+		protected ValidationResult compute(){
+			if(to-from<=parent.config.chunksize){
+				Walk walk=new Walk(parent,new ValidationResult(4));
+				for(int i=from;i<to&&i<first.get();i++){
+					walk.push(null,i);
+					visit.visit(walk,element.apply(i));
+					walk.depth--;
+					if(walk.stopped){
+						first.accumulateAndGet(i,Math::min);
+						break;
+					}
+				}
+				return walk.result;
+			}
+			int mid=(from+to)>>>1;
+			Chunk left=new Chunk(parent,element,visit,from,mid,first),right=new Chunk(parent,element,visit,mid,to,first);
+			right.fork();
+			ValidationResult result=left.compute();
+			return result.append(right.join());
+		}
+	}
+
+	/*   structure part   */
+	/**
+	 * 功能描述：类型的校验元数据,每个字段一条:字段自身的规则(无则为null)与{@link Valid}字段的读取函数(无则为null)
+	 */
+	private final static class Node{
+		final String[] names;
+		final ValidationPlan<Object>[] plans;
+		final Function<Object,Object>[] nested;
+		final boolean empty;
+
+		private Node(String[] names,ValidationPlan<Object>[] plans,Function<Object,Object>[] nested){
+			this.names=names;
+			this.plans=plans;
+			this.nested=nested;
+			this.empty=names.length==0;
+		}
+
+		@SuppressWarnings({"unchecked","rawtypes"})
+		static Node compile(Class<?> type){
+			if(type.getName().startsWith("java.")){
+				return new Node(new String[0],new ValidationPlan[0],new Function[0]);
+			}
+			List<Field> fields=BeanValidator.fields(type);
+			String[] names=new String[fields.size()];
+			ValidationPlan<Object>[] plans=new ValidationPlan[fields.size()];
+			Function<Object,Object>[] nested=new Function[fields.size()];
+			int n=0;
+			for(Field field:fields){
+				ValidationPlan.Builder<Object> builder=ValidationPlan.builder();
+				BeanValidator.compile(field,builder);
+				ValidationPlan<Object> plan=builder.build();
+				boolean valid=field.isAnnotationPresent(Valid.class);
+				if(plan.size()==0&&!valid){
+					continue;
+				}
+				names[n]=field.getName();
+				plans[n]=plan.size()==0?null:plan;
+				nested[n++]=valid?Accessors.of(field):null;
+			}
+			return new Node(Arrays.copyOf(names,n),Arrays.copyOf(plans,n),Arrays.copyOf(nested,n));
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package com.l.validator;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 功能描述：按(co,ex)缓存共享的无堆栈异常,以ex为键、同一ex下按co线性查找,命中时不产生任何对象分配
+ * @author: l.sl
+ */
+final class ExceptionCache{
+	private final static int MAX_ENTRIES=1024;
+	private final static ConcurrentHashMap<String,StacklessValidationException[]> CACHE=new ConcurrentHashMap<>();
+	private final static AtomicInteger SIZE=new AtomicInteger();
+	
+	private ExceptionCache(){
+	}
+	
+	/**
+	 * 功能描述：按指定模式创建(或取出)异常实例
+	 */
+	static ValidationException create(ThrowMode mode,int co,String ex){
+		switch(mode){
+			case STACKLESS:
+				return new StacklessValidationException(co,ex,false);
+			case CACHED:
+				return get(co,ex);
+			default:
+				return new ValidationException(co,ex);
+		}
+	}
+	
+	/**
+	 * 功能描述：带模板参数的异常,信息随参数变化,CACHED模式下不缓存,退化为STACKLESS;template为null时同{@link #create(ThrowMode, int, String)}
+	 */
+	static ValidationException create(ThrowMode mode,int co,String ex,String template,Object[] args){
+		if(template==null){
+			return create(mode,co,ex);
+		}
+		ValidationException e=mode==ThrowMode.STACK_TRACE?new ValidationException(co,ex):new StacklessValidationException(co,ex,false);
+		return e.template(template,args);
+	}
+	
+	static ValidationException get(int co,String ex){
+		if(ex==null){
+			return new StacklessValidationException(co,null,false);
+		}
+		StacklessValidationException[] entries=CACHE.get(ex);
+		if(entries!=null){
+			for(StacklessValidationException e:entries){
+				if(e.getCo()==co){
+					return e;
+				}
+			}
+		}
+		//超过容量后不再缓存,退化为STACKLESS
+		if(SIZE.get()>=MAX_ENTRIES){
+			return new StacklessValidationException(co,ex,false);
+		}
+		StacklessValidationException created=new StacklessValidationException(co,ex,true);
+		StacklessValidationException[] merged=CACHE.merge(ex,new StacklessValidationException[]{created},ExceptionCache::append);
+		for(StacklessValidationException e:merged){
+			if(e.getCo()==co){
+				if(e==created){
+					SIZE.incrementAndGet();
+				}
+				return e;
+			}
+		}
+		return created;
+	}
+	
+	private static StacklessValidationException[] append(StacklessValidationException[] old,StacklessValidationException[] add){
+		StacklessValidationException e=add[0];
+		for(StacklessValidationException o:old){
+			if(o.getCo()==e.getCo()){
+				return old;
+			}
+		}
+		StacklessValidationException[] merged=new StacklessValidationException[old.length+1];
+		System.arraycopy(old,0,merged,0,old.length);
+		merged[old.length]=e;
+		return merged;
+	}
+}
@@ -0,0 +1,66 @@
+package com.l.validator;
+
+/**
+ * 功能描述：不可变的int候选集合,开放寻址(线性探测)哈希表,判断时不装箱
+ * @author: l.sl
+ */
+public final class IntCandidateSet{
+	private final int[] keys;
+	private final int mask;
+	private final boolean containsZero;
+	private final int size;
+	
+	private IntCandidateSet(int[] values){
+		int capacity=StringCandidateSet.tableSize(values.length);
+		this.keys=new int[capacity];
+		this.mask=capacity-1;
+		int count=0;
+		boolean zero=false;
+		for(int v:values){
+			//0作为空槽标记,单独记录
+			if(v==0){
+				if(!zero){
+					zero=true;
+					count++;
+				}
+				continue;
+			}
+			int i=StringCandidateSet.mix(v)&mask;
+			while(keys[i]!=0&&keys[i]!=v){
+				i=(i+1)&mask;
+			}
+			if(keys[i]==0){
+				keys[i]=v;
+				count++;
+			}
+		}
+		this.containsZero=zero;
+		this.size=count;
+	}
+	
+	/**
+	 * 功能描述：将候选值冻结为不可变集合
+	 */
+	public final static IntCandidateSet of(int ... values){
+		return new IntCandidateSet(values);
+	}
+	
+	public boolean contains(int value){
+		if(value==0){
+			return containsZero;
+		}
+		int i=StringCandidateSet.mix(value)&mask;
+		int k;
+		while((k=keys[i])!=0){
+			if(k==value){
+				return true;
+			}
+			i=(i+1)&mask;
+		}
+		return false;
+	}
+	
+	public int size(){
+		return size;
+	}
+}
@@ -0,0 +1,70 @@
+package com.l.validator;
+
+/**
+ * 功能描述：不可变的long候选集合,开放寻址(线性探测)哈希表,判断时不装箱
+ * @author: l.sl
+ */
+public final class LongCandidateSet{
+	private final long[] keys;
+	private final int mask;
+	private final boolean containsZero;
+	private final int size;
+	
+	private LongCandidateSet(long[] values){
+		int capacity=StringCandidateSet.tableSize(values.length);
+		this.keys=new long[capacity];
+		this.mask=capacity-1;
+		int count=0;
+		boolean zero=false;
+		for(long v:values){
+			//0作为空槽标记,单独记录
+			if(v==0){
+				if(!zero){
+					zero=true;
+					count++;
+				}
+				continue;
+			}
+			int i=hash(v)&mask;
+			while(keys[i]!=0&&keys[i]!=v){
+				i=(i+1)&mask;
+			}
+			if(keys[i]==0){
+				keys[i]=v;
+				count++;
+			}
+		}
+		this.containsZero=zero;
+		this.size=count;
+	}
+	
+	/**
+	 * 功能描述：将候选值冻结为不可变集合
+	 */
+	public final static LongCandidateSet of(long ... values){
+		return new LongCandidateSet(values);
+	}
+	
+	public boolean contains(long value){
+		if(value==0){
+			return containsZero;
+		}
+		int i=hash(value)&mask;
+		long k;
+		while((k=keys[i])!=0){
+			if(k==value){
+				return true;
+			}
+			i=(i+1)&mask;
+		}
+		return false;
+	}
+	
+	public int size(){
+		return size;
+	}
+	
+	private static int hash(long v){
+		return StringCandidateSet.mix((int)(v^(v>>>32)));
+	}
+}
@@ -0,0 +1,402 @@
+package com.l.validator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 功能描述：按异常编号(co)与Locale查找的国际化异常信息目录<br/>
+ * 			加载时一次性读取properties(UTF-8编码,键为异常编号,值为{0}、{1}形式的模板)并解析模板,运行时只有一次Locale哈希查找与一次编号哈希查找,不解析MessageFormat;<br/>
+ * 			资源按baseName_language_country.properties、baseName_language.properties、baseName.properties逐级回退,内置的默认信息位于最底层;<br/>
+ * 			内置信息只替换仍为默认信息(如{@link Validator#DEX})的异常,调用方指定了ex的异常只被资源文件中的条目替换;<br/>
+ * 			{@link #reload()}重新读取全部资源后整体替换,读取过程中的查找不受影响,读取失败时保留原内容
+ * <pre>
+ * eg:
+ * MessageCatalog catalog=MessageCatalog.load("i18n/messages",Locale.ENGLISH,Locale.SIMPLIFIED_CHINESE);
+ * //i18n/messages_en.properties: 505=age must be at least {1} but was {0}
+ * catch(ValidationException e){
+ * 	catalog.message(e,Locale.ENGLISH);
+ * }
+ * </pre>
+ * @author: l.sl
+ */
+public final class MessageCatalog{
+	/** 内置默认信息(DCO、UNKOWN_TYPE_CO)的资源名 */
+	private final static String DEFAULT_BASE_NAME="com/l/validator/messages";
+	private final static String SUFFIX=".properties";
+	private final ClassLoader loader;
+	private final Path directory;
+	private final String baseName;
+	private final Locale[] locales;
+	private volatile Snapshot snapshot;
+
+	private MessageCatalog(ClassLoader loader,Path directory,String baseName,Locale[] locales){
+		if(baseName==null||locales==null){
+			throw new IllegalArgumentException("baseName and locales must not be null");
+		}
+		this.loader=loader;
+		this.directory=directory;
+		this.baseName=baseName;
+		this.locales=locales.clone();
+		this.snapshot=read();
+	}
+
+	/**
+	 * 功能描述：从classpath加载,baseName为资源路径(如i18n/messages),缺失的资源文件跳过
+	 */
+	public final static MessageCatalog load(String baseName,Locale ... locales){
+		ClassLoader loader=Thread.currentThread().getContextClassLoader();
+		return new MessageCatalog(loader==null?MessageCatalog.class.getClassLoader():loader,null,baseName,locales);
+	}
+
+	/**
+	 * 功能描述：从目录加载,适合部署后修改资源文件并{@link #reload()}
+	 */
+	public final static MessageCatalog load(Path directory,String baseName,Locale ... locales){
+		if(directory==null){
+			throw new IllegalArgumentException("directory must not be null");
+		}
+		return new MessageCatalog(null,directory,baseName,locales);
+	}
+
+	/**
+	 * 功能描述：重新读取全部资源并原子替换;任一资源读取或解析失败时抛出IllegalStateException,原内容保持不变
+	 */
+	public synchronized MessageCatalog reload(){
+		this.snapshot=read();
+		return this;
+	}
+
+	/*   lookup part   */
+	/**
+	 * 功能描述：按编号与Locale格式化信息,没有对应条目时返回null
+	 */
+	public String message(int co,Locale locale,Object ... args){
+		Template template=snapshot.table(locale).get(co);
+		return template==null?null:template.format(args);
+	}
+
+	/**
+	 * 功能描述：异常的本地化信息,参数取自{@link ValidationException#getArgs()},没有对应条目时返回原信息
+	 */
+	public String message(ValidationException e,Locale locale){
+		Template template=snapshot.table(locale).get(e.getCo());
+		return template==null||!template.replaces(e.getEx())?e.getEx():template.format(e.getArgs());
+	}
+
+	/**
+	 * 功能描述：收集模式下第index条错误的本地化信息,没有对应条目时返回原信息
+	 */
+	public String message(ValidationResult result,int index,Locale locale){
+		Template template=snapshot.table(locale).get(result.getCo(index));
+		return template==null||!template.replaces(result.getEx(index))?result.getEx(index):template.format(result.getArgs(index));
+	}
+
+	public boolean contains(int co,Locale locale){
+		return snapshot.table(locale).get(co)!=null;
+	}
+
+	/**
+	 * 功能描述：已加载到资源的Locale,不含Locale.ROOT
+	 */
+	public Set<Locale> getLocales(){
+		return snapshot.locales;
+	}
+
+	/*   load part   */
+	private Snapshot read(){
+		Set<Locale> candidates=new LinkedHashSet<>();
+		candidates.add(Locale.ROOT);
+		for(Locale l:locales){
+			if(l==null){
+				throw new IllegalArgumentException("locale must not be null");
+			}
+			if(!l.getLanguage().isEmpty()){
+				candidates.add(new Locale(l.getLanguage()));
+			}
+			candidates.add(l);
+		}
+		//内置信息与资源文件分开读取,资源文件的条目在任何层级都优先于内置信息
+		Map<Locale,Map<Integer,String>> builtins=new HashMap<>(),entries=new HashMap<>();
+		for(Locale l:candidates){
+			Map<Integer,String> builtin=new HashMap<>(),merged=new HashMap<>();
+			boolean found=readInto(DEFAULT_BASE_NAME,l,MessageCatalog.class.getClassLoader(),null,builtin);
+			found|=readInto(baseName,l,loader,directory,merged);
+			if(found||l.equals(Locale.ROOT)){
+				builtins.put(l,builtin);
+				entries.put(l,merged);
+			}
+		}
+		//内置条目所替换的默认信息,即内置资源根Locale中的文本
+		Map<Integer,String> defaults=builtins.get(Locale.ROOT);
+		Map<Locale,Table> tables=new HashMap<>();
+		Set<Locale> loaded=new LinkedHashSet<>();
+		for(Locale l:candidates){
+			if(!entries.containsKey(l)){
+				continue;
+			}
+			//子Locale覆盖父Locale,加载时合并,查找时不再逐级回退
+			Map<Integer,String> builtin=new HashMap<>(),merged=new HashMap<>();
+			for(Locale parent:chain(l)){
+				Map<Integer,String> b=builtins.get(parent),e=entries.get(parent);
+				if(b!=null){
+					builtin.putAll(b);
+				}
+				if(e!=null){
+					merged.putAll(e);
+				}
+			}
+			builtin.keySet().removeAll(merged.keySet());
+			tables.put(l,Table.of(merged,builtin,defaults));
+			if(!l.equals(Locale.ROOT)){
+				loaded.add(l);
+			}
+		}
+		return new Snapshot(tables,Collections.unmodifiableSet(loaded));
+	}
+
+	private static boolean readInto(String baseName,Locale locale,ClassLoader loader,Path directory,Map<Integer,String> target){
+		String suffix=locale.toString();
+		String name=(suffix.isEmpty()?baseName:baseName+"_"+suffix)+SUFFIX;
+		try{
+			InputStream in;
+			if(directory!=null){
+				Path file=directory.resolve(name);
+				if(!Files.isRegularFile(file)){
+					return false;
+				}
+				in=Files.newInputStream(file);
+			}else{
+				URL url=loader==null?null:loader.getResource(name);
+				if(url==null){
+					return false;
+				}
+				in=url.openStream();
+			}
+			Properties properties=new Properties();
+			try(Reader reader=new InputStreamReader(in,StandardCharsets.UTF_8)){
+				properties.load(reader);
+			}
+			for(String key:properties.stringPropertyNames()){
+				int co;
+				try{
+					co=Integer.decode(key.trim());
+				}catch(NumberFormatException e){
+					throw new IllegalStateException(name+": key is not an error code:"+key,e);
+				}
+				target.put(co,properties.getProperty(key));
+			}
+			return true;
+		}catch(IOException e){
+			throw new IllegalStateException("failed to read "+name,e);
+		}
+	}
+
+	/**
+	 * 功能描述：由根到自身的回退链,如ROOT、zh、zh_CN
+	 */
+	private static List<Locale> chain(Locale locale){
+		List<Locale> chain=new ArrayList<>(3);
+		chain.add(Locale.ROOT);
+		if(locale.equals(Locale.ROOT)){
+			return chain;
+		}
+		Locale language=new Locale(locale.getLanguage());
+		if(!language.equals(locale)&&!locale.getLanguage().isEmpty()){
+			chain.add(language);
+		}
+		chain.add(locale);
+		return chain;
+	}
+
+	/*   structure part   */
+	private final static class Snapshot{
+		final Map<Locale,Table> tables;
+		final Set<Locale> locales;
+		/** 未直接加载的Locale解析到的回退结果,数量以调用方使用的Locale为上限 */
+		final ConcurrentHashMap<Locale,Table> resolved=new ConcurrentHashMap<>();
+
+		Snapshot(Map<Locale,Table> tables,Set<Locale> locales){
+			this.tables=tables;
+			this.locales=locales;
+		}
+
+		Table table(Locale locale){
+			if(locale==null){
+				return tables.get(Locale.ROOT);
+			}
+			Table table=tables.get(locale);
+			if(table!=null){
+				return table;
+			}
+			table=resolved.get(locale);
+			return table!=null?table:resolved.computeIfAbsent(locale,this::fallback);
+		}
+
+		private Table fallback(Locale locale){
+			Table table=tables.get(new Locale(locale.getLanguage(),locale.getCountry()));
+			if(table==null){
+				table=tables.get(new Locale(locale.getLanguage()));
+			}
+			return table!=null?table:tables.get(Locale.ROOT);
+		}
+	}
+
+	/**
+	 * 功能描述：编号到模板的开放寻址(线性探测)哈希表,空槽以null模板标记
+	 */
+	private final static class Table{
+		private final int[] keys;
+		private final Template[] values;
+		private final int mask;
+
+		private Table(int capacity){
+			this.keys=new int[capacity];
+			this.values=new Template[capacity];
+			this.mask=capacity-1;
+		}
+
+		/**
+		 * 功能描述：entries为资源文件的条目,builtin为未被覆盖的内置条目,defaults为内置条目替换的默认信息
+		 */
+		static Table of(Map<Integer,String> entries,Map<Integer,String> builtin,Map<Integer,String> defaults){
+			Table table=new Table(StringCandidateSet.tableSize(entries.size()+builtin.size()));
+			for(Map.Entry<Integer,String> e:entries.entrySet()){
+				table.put(e.getKey(),Template.parse(e.getValue(),null));
+			}
+			for(Map.Entry<Integer,String> e:builtin.entrySet()){
+				table.put(e.getKey(),Template.parse(e.getValue(),defaults.get(e.getKey())));
+			}
+			return table;
+		}
+
+		private void put(int co,Template template){
+			int i=StringCandidateSet.mix(co)&mask;
+			while(values[i]!=null){
+				i=(i+1)&mask;
+			}
+			keys[i]=co;
+			values[i]=template;
+		}
+
+		Template get(int co){
+			int i=StringCandidateSet.mix(co)&mask;
+			Template t;
+			while((t=values[i])!=null){
+				if(keys[i]==co){
+					return t;
+				}
+				i=(i+1)&mask;
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * 功能描述：预解析的模板,{n}为第n个参数,引号规则与MessageFormat一致('{'为字面量,''为单引号);<br/>
+	 * 			参数按String.valueOf输出,缺失的参数原样保留{n}
+	 */
+	private final static class Template{
+		/** 字面量片段,比占位符多一个 */
+		private final String[] literals;
+		private final int[] indexes;
+		private final int length;
+		/** 内置条目所替换的默认信息,资源文件的条目为null */
+		private final String original;
+
+		private Template(String[] literals,int[] indexes,String original){
+			this.literals=literals;
+			this.indexes=indexes;
+			this.original=original;
+			int n=0;
+			for(String s:literals){
+				n+=s.length();
+			}
+			this.length=n;
+		}
+
+		static Template parse(String pattern,String original){
+			List<String> literals=new ArrayList<>();
+			List<Integer> indexes=new ArrayList<>();
+			StringBuilder literal=new StringBuilder();
+			boolean quoted=false;
+			for(int i=0;i<pattern.length();i++){
+				char c=pattern.charAt(i);
+				if(c=='\''){
+					if(i+1<pattern.length()&&pattern.charAt(i+1)=='\''){
+						literal.append('\'');
+						i++;
+					}else{
+						quoted=!quoted;
+					}
+				}else if(c=='{'&&!quoted){
+					int end=pattern.indexOf('}',i);
+					if(end<0){
+						throw new IllegalStateException("unmatched brace in message:"+pattern);
+					}
+					int index;
+					try{
+						index=Integer.parseInt(pattern.substring(i+1,end).trim());
+					}catch(NumberFormatException e){
+						throw new IllegalStateException("only {n} placeholders are supported in message:"+pattern,e);
+					}
+					if(index<0){
+						throw new IllegalStateException("negative placeholder in message:"+pattern);
+					}
+					literals.add(literal.toString());
+					literal.setLength(0);
+					indexes.add(index);
+					i=end;
+				}else{
+					literal.append(c);
+				}
+			}
+			literals.add(literal.toString());
+			int[] idx=new int[indexes.size()];
+			for(int i=0;i<idx.length;i++){
+				idx[i]=indexes.get(i);
+			}
+			return new Template(literals.toArray(new String[0]),idx,original);
+		}
+
+		/**
+		 * 功能描述：是否替换给定的原信息,资源文件的条目总是替换,内置条目只替换默认信息
+		 */
+		boolean replaces(String ex){
+			return original==null||original.equals(ex);
+		}
+
+		String format(Object[] args){
+			if(indexes.length==0){
+				return literals[0];
+			}
+			StringBuilder sb=new StringBuilder(length+indexes.length*8);
+			sb.append(literals[0]);
+			for(int i=0;i<indexes.length;i++){
+				int index=indexes[i];
+				if(args!=null&&index<args.length){
+					sb.append(args[index]);
+				}else{
+					sb.append('{').append(index).append('}');
+				}
+				sb.append(literals[i+1]);
+			}
+			return sb.toString();
+		}
+	}
+}
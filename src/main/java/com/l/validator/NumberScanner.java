@@ -0,0 +1,210 @@
+package com.l.validator;
+
+/**
+ * 功能描述：单趟扫描的数字格式判断,不创建任何对象,也不依赖异常判断失败<br/>
+ * 			十进制/科学计数法的判定与new BigDecimal(String)一致(含非ASCII数字、指数与scale的溢出判断)<br/>
+ * 			以"0x"开头时,后续为十六进制数字,或与之前实现兼容的不含小数点的十进制写法
+ * @author: l.sl
+ */
+final class NumberScanner{
+	private final static int MAX_EXPONENT_DIGITS=10;
+
+	private NumberScanner(){
+	}
+
+	/*   number part   */
+	/**
+	 * 功能描述：判断是否为数字,规则同{@link Validator#beNumbers(Object)}
+	 */
+	static boolean isNumber(CharSequence s){
+		int len=s.length();
+		if(len>=2&&s.charAt(0)=='0'&&s.charAt(1)=='x'){
+			return isHex(s,2,len)||isDecimal(s,2,len,false);
+		}
+		return isDecimal(s,0,len,true);
+	}
+
+	private static boolean isHex(CharSequence s,int from,int to){
+		if(from>=to){
+			return false;
+		}
+		for(int i=from;i<to;i++){
+			char c=s.charAt(i);
+			if(!((c>='0'&&c<='9')||(c>='a'&&c<='f')||(c>='A'&&c<='F'))){
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 功能描述：按BigDecimal的语法判断[from,to)是否为十进制数字
+	 */
+	private static boolean isDecimal(CharSequence s,int from,int to,boolean allowPoint){
+		int i=from;
+		if(i<to&&(s.charAt(i)=='+'||s.charAt(i)=='-')){
+			i++;
+		}
+		int digits=0,fraction=0;
+		boolean point=false;
+		for(;i<to;i++){
+			char c=s.charAt(i);
+			if(digit(c)>=0){
+				digits++;
+				if(point){
+					fraction++;
+				}
+			}else if(c=='.'){
+				if(point||!allowPoint){
+					return false;
+				}
+				point=true;
+			}else if(c=='e'||c=='E'){
+				break;
+			}else{
+				return false;
+			}
+		}
+		if(digits==0){
+			return false;
+		}
+		if(i==to){
+			return true;
+		}
+		long exponent=exponent(s,i+1,to);
+		if(exponent==Long.MIN_VALUE){
+			return false;
+		}
+		long scale=fraction-exponent;
+		return scale>=Integer.MIN_VALUE&&scale<=Integer.MAX_VALUE;
+	}
+
+	/**
+	 * 功能描述：解析指数部分,格式错误或超出int范围(与BigDecimal的Exponent overflow一致)时返回Long.MIN_VALUE
+	 */
+	private static long exponent(CharSequence s,int from,int to){
+		int i=from;
+		boolean negative=false;
+		if(i<to&&(s.charAt(i)=='+'||s.charAt(i)=='-')){
+			negative=s.charAt(i)=='-';
+			i++;
+		}
+		if(i>=to){
+			return Long.MIN_VALUE;
+		}
+		//跳过前导0
+		while(to-i>MAX_EXPONENT_DIGITS&&digit(s.charAt(i))==0){
+			i++;
+		}
+		if(to-i>MAX_EXPONENT_DIGITS){
+			return Long.MIN_VALUE;
+		}
+		long exponent=0;
+		for(;i<to;i++){
+			int v=digit(s.charAt(i));
+			if(v<0){
+				return Long.MIN_VALUE;
+			}
+			exponent=exponent*10+v;
+		}
+		exponent=negative?-exponent:exponent;
+		return exponent<Integer.MIN_VALUE||exponent>Integer.MAX_VALUE?Long.MIN_VALUE:exponent;
+	}
+
+	/*   integral part   */
+	/**
+	 * 功能描述：判断是否为可放入[min,max]范围内的十进制整数(可带正负号,不支持小数点与指数)
+	 */
+	static boolean isIntegral(CharSequence s,long min,long max){
+		int len=s.length(),i=0;
+		boolean negative=false;
+		if(len>0&&(s.charAt(0)=='+'||s.charAt(0)=='-')){
+			negative=s.charAt(0)=='-';
+			i++;
+		}
+		if(i>=len){
+			return false;
+		}
+		//以负数累加,避免Long.MIN_VALUE溢出
+		long limit=negative?min:-max,value=0,multmin=limit/10;
+		for(;i<len;i++){
+			int v=digit(s.charAt(i));
+			if(v<0||value<multmin){
+				return false;
+			}
+			value*=10;
+			if(value<limit+v){
+				return false;
+			}
+			value-=v;
+		}
+		return true;
+	}
+
+	/*   decimal part   */
+	/**
+	 * 功能描述：判断是否为数字且满足DECIMAL(precision,scale)的限制:<br/>
+	 * 			整数部分有效位数不超过precision-scale,小数部分(去掉末尾0后)位数不超过scale,支持科学计数法
+	 */
+	static boolean isDecimal(CharSequence s,int precision,int scale){
+		int len=s.length(),i=0;
+		if(i<len&&(s.charAt(i)=='+'||s.charAt(i)=='-')){
+			i++;
+		}
+		//ordinal为数字序号,firstNonZero/lastNonZero为第一个/最后一个非0数字的序号
+		long digits=0,integerDigits=-1,firstNonZero=-1,lastNonZero=-1;
+		for(;i<len;i++){
+			char c=s.charAt(i);
+			int v=digit(c);
+			if(v>=0){
+				if(v!=0){
+					if(firstNonZero<0){
+						firstNonZero=digits;
+					}
+					lastNonZero=digits;
+				}
+				digits++;
+			}else if(c=='.'){
+				if(integerDigits>=0){
+					return false;
+				}
+				integerDigits=digits;
+			}else if(c=='e'||c=='E'){
+				break;
+			}else{
+				return false;
+			}
+		}
+		if(digits==0){
+			return false;
+		}
+		if(integerDigits<0){
+			integerDigits=digits;
+		}
+		long exponent=0;
+		if(i<len){
+			exponent=exponent(s,i+1,len);
+			if(exponent==Long.MIN_VALUE){
+				return false;
+			}
+		}
+		if(firstNonZero<0){
+			//值为0
+			return true;
+		}
+		//序号为k的数字对应10的(integerDigits-1-k+exponent)次方
+		long high=integerDigits-1-firstNonZero+exponent,low=integerDigits-1-lastNonZero+exponent;
+		long needInteger=high>=0?high+1:0,needScale=low<0?-low:0;
+		return needInteger<=precision-scale&&needScale<=scale;
+	}
+
+	/**
+	 * 功能描述：与BigDecimal一致,ASCII数字走快速分支,其他Unicode数字使用Character.digit
+	 */
+	private static int digit(char c){
+		if(c>='0'&&c<='9'){
+			return c-'0';
+		}
+		return c<128?-1:Character.digit(c,10);
+	}
+}
@@ -0,0 +1,108 @@
+package com.l.validator;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * 功能描述：有界、线程安全的正则编译缓存,超过容量后按写入顺序(FIFO)淘汰最早的表达式<br/>
+ * 			缓存的是匹配器:简单的定长/有界格式正则编译为DFA,其余使用Pattern
+ * @author: l.sl
+ */
+public final class PatternCache{
+	private final ConcurrentHashMap<String,RegExpMatcher> patterns;
+	private final Queue<String> order=new ConcurrentLinkedQueue<>();
+	private final AtomicInteger size=new AtomicInteger();
+	private final LongAdder hits=new LongAdder(),misses=new LongAdder(),evictions=new LongAdder();
+	private final int capacity;
+
+	public PatternCache(int capacity){
+		if(capacity<=0){
+			throw new IllegalArgumentException("capacity must be positive:"+capacity);
+		}
+		this.capacity=capacity;
+		this.patterns=new ConcurrentHashMap<>(Math.min(capacity,1024));
+	}
+
+	/**
+	 * 功能描述：获取已编译的正则,未命中时编译并放入缓存
+	 */
+	public Pattern get(String regExp){
+		return matcher(regExp).pattern();
+	}
+
+	/**
+	 * 功能描述：获取正则对应的匹配器,未命中时编译(可行时编译为DFA)并放入缓存
+	 */
+	RegExpMatcher matcher(String regExp){
+		RegExpMatcher m=patterns.get(regExp);
+		if(m!=null){
+			hits.increment();
+			return m;
+		}
+		misses.increment();
+		m=RegExpMatcher.of(Pattern.compile(regExp));
+		RegExpMatcher old=patterns.putIfAbsent(regExp,m);
+		if(old!=null){
+			return old;
+		}
+		order.offer(regExp);
+		if(size.incrementAndGet()>capacity){
+			evict();
+		}
+		return m;
+	}
+
+	private void evict(){
+		while(size.get()>capacity){
+			String eldest=order.poll();
+			if(eldest==null){
+				return;
+			}
+			if(patterns.remove(eldest)!=null){
+				size.decrementAndGet();
+				evictions.increment();
+			}
+		}
+	}
+
+	/**
+	 * 功能描述：清空缓存,命中统计不受影响
+	 */
+	public void clear(){
+		String regExp;
+		while((regExp=order.poll())!=null){
+			if(patterns.remove(regExp)!=null){
+				size.decrementAndGet();
+			}
+		}
+	}
+
+	public int capacity(){
+		return capacity;
+	}
+
+	public int size(){
+		return size.get();
+	}
+
+	public long hitCount(){
+		return hits.sum();
+	}
+
+	public long missCount(){
+		return misses.sum();
+	}
+
+	public long evictionCount(){
+		return evictions.sum();
+	}
+
+	@Override
+	public String toString(){
+		return "PatternCache[size="+size()+",capacity="+capacity+",hits="+hitCount()+",misses="+missCount()+",evictions="+evictionCount()+"]";
+	}
+}
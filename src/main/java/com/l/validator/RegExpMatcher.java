@@ -0,0 +1,514 @@
+package com.l.validator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * 功能描述：整串匹配(等价于pattern.matcher(s).matches())的统一入口<br/>
+ * 			由字面量、字符类、'.'、\d\w\s及其量词({n}/{n,m}/{n,}/?/*\/+)顺序组成、且未设置flags的正则,
+ * 			编译为查表的DFA,不回溯、不创建Matcher;其他正则退回到{@link Pattern}
+ * @author: l.sl
+ */
+abstract class RegExpMatcher{
+	/** 展开量词后的位置数上限,NFA状态集合用long的位表示 */
+	private final static int MAX_POSITIONS=62;
+	/** DFA状态数上限,超过则退回Pattern */
+	private final static int MAX_STATES=512;
+
+	private final Pattern pattern;
+
+	private RegExpMatcher(Pattern pattern){
+		this.pattern=pattern;
+	}
+
+	/**
+	 * 功能描述：为已编译的正则选择匹配实现,满足条件时编译为DFA
+	 */
+	static RegExpMatcher of(Pattern pattern){
+		Dfa dfa=pattern.flags()==0?Dfa.compile(pattern):null;
+		return dfa!=null?dfa:new Fallback(pattern);
+	}
+
+	final Pattern pattern(){
+		return pattern;
+	}
+
+	/**
+	 * 功能描述：是否编译为了DFA
+	 */
+	abstract boolean isCompiled();
+
+	abstract boolean matches(CharSequence s);
+
+	/*   fallback part   */
+	private final static class Fallback extends RegExpMatcher{
+		Fallback(Pattern pattern){
+			super(pattern);
+		}
+
+		@Override
+		boolean isCompiled(){
+			return false;
+		}
+
+		@Override
+		boolean matches(CharSequence s){
+			return pattern().matcher(s).matches();
+		}
+	}
+
+	/*   dfa part   */
+	private final static class Dfa extends RegExpMatcher{
+		private final static int DEAD=0,START=1;
+		/** ASCII字符所属的字符分段 */
+		private final int[] ascii;
+		/** 非ASCII码点按分段起点二分查找 */
+		private final int[] bounds;
+		private final int segments;
+		private final int[] table;
+		private final boolean[] accept;
+
+		private Dfa(Pattern pattern,int[] ascii,int[] bounds,int[] table,boolean[] accept){
+			super(pattern);
+			this.ascii=ascii;
+			this.bounds=bounds;
+			this.segments=bounds.length+1;
+			this.table=table;
+			this.accept=accept;
+		}
+
+		@Override
+		boolean isCompiled(){
+			return true;
+		}
+
+		@Override
+		boolean matches(CharSequence s){
+			int state=START,len=s.length();
+			for(int i=0;i<len;){
+				int c=s.charAt(i++),segment;
+				if(c<128){
+					segment=ascii[c];
+				}else{
+					if(Character.isHighSurrogate((char)c)&&i<len&&Character.isLowSurrogate(s.charAt(i))){
+						c=Character.toCodePoint((char)c,s.charAt(i++));
+					}
+					segment=segment(c);
+				}
+				state=table[state*segments+segment];
+				if(state==DEAD){
+					return false;
+				}
+			}
+			return accept[state];
+		}
+
+		private int segment(int c){
+			int i=Arrays.binarySearch(bounds,c);
+			return i>=0?i+1:-i-1;
+		}
+
+		/**
+		 * 功能描述：解析并做子集构造,不支持的语法或规模超限时返回null
+		 */
+		static Dfa compile(Pattern pattern){
+			List<Position> positions=new Parser(pattern.pattern()).parse();
+			if(positions==null||positions.size()>MAX_POSITIONS){
+				return null;
+			}
+			int n=positions.size();
+			//字符分段:所有字符类的区间端点
+			TreeSet<Integer> points=new TreeSet<>();
+			for(Position p : positions){
+				for(int i=0;i<p.ranges.length;i+=2){
+					points.add(p.ranges[i]);
+					if(p.ranges[i+1]<Character.MAX_CODE_POINT){
+						points.add(p.ranges[i+1]+1);
+					}
+				}
+			}
+			points.remove(0);
+			int[] bounds=new int[points.size()];
+			int k=0;
+			for(int b : points){
+				bounds[k++]=b;
+			}
+			int segments=bounds.length+1;
+			//每个分段可被哪些位置接受
+			long[] masks=new long[segments];
+			for(int g=0;g<segments;g++){
+				int c=g==0?0:bounds[g-1];
+				for(int j=0;j<n;j++){
+					if(positions.get(j).accepts(c)){
+						masks[g]|=1L<<j;
+					}
+				}
+			}
+			//NFA状态0为起点,状态j+1为刚匹配完位置j;follow为下一步可匹配的位置集合
+			long[] follow=new long[n+1];
+			boolean[] finals=new boolean[n+1];
+			for(int s=0;s<=n;s++){
+				long f=0;
+				if(s>0&&positions.get(s-1).loop){
+					f|=1L<<(s-1);
+				}
+				int j=s;
+				for(;j<n;j++){
+					f|=1L<<j;
+					if(!positions.get(j).optional){
+						break;
+					}
+				}
+				follow[s]=f;
+				finals[s]=j==n;
+			}
+			//子集构造
+			Map<Long,Integer> ids=new HashMap<>();
+			List<Long> states=new ArrayList<>();
+			states.add(0L);
+			states.add(1L);
+			ids.put(0L,DEAD);
+			ids.put(1L,START);
+			int[] table=new int[MAX_STATES*segments];
+			for(int id=START;id<states.size();id++){
+				long set=states.get(id),reach=0;
+				for(int s=0;s<=n;s++){
+					if((set&(1L<<s))!=0){
+						reach|=follow[s];
+					}
+				}
+				for(int g=0;g<segments;g++){
+					long next=(reach&masks[g])<<1;
+					Integer target=ids.get(next);
+					if(target==null){
+						if(states.size()==MAX_STATES){
+							return null;
+						}
+						target=states.size();
+						ids.put(next,target);
+						states.add(next);
+					}
+					table[id*segments+g]=target;
+				}
+			}
+			boolean[] accept=new boolean[states.size()];
+			for(int id=START;id<states.size();id++){
+				long set=states.get(id);
+				for(int s=0;s<=n&&!accept[id];s++){
+					accept[id]=(set&(1L<<s))!=0&&finals[s];
+				}
+			}
+			int[] ascii=new int[128];
+			for(int c=0;c<128;c++){
+				int i=Arrays.binarySearch(bounds,c);
+				ascii[c]=i>=0?i+1:-i-1;
+			}
+			return new Dfa(pattern,ascii,bounds,Arrays.copyOf(table,states.size()*segments),accept);
+		}
+	}
+
+	/**
+	 * 功能描述：展开量词后的单个位置,ranges为有序不相交的码点闭区间[lo,hi,lo,hi...]
+	 */
+	private final static class Position{
+		final int[] ranges;
+		final boolean optional,loop;
+
+		Position(int[] ranges,boolean optional,boolean loop){
+			this.ranges=ranges;
+			this.optional=optional;
+			this.loop=loop;
+		}
+
+		boolean accepts(int c){
+			for(int i=0;i<ranges.length;i+=2){
+				if(c>=ranges[i]&&c<=ranges[i+1]){
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/*   parser part   */
+	/**
+	 * 功能描述：只识别与Pattern语义完全一致的子集,遇到其他语法一律返回null
+	 */
+	private final static class Parser{
+		private final static int[] DIGIT={'0','9'},
+				WORD={'0','9','A','Z','_','_','a','z'},
+				SPACE={'\t','\r',' ',' '},
+				//'.'不匹配行终止符\n \r U+0085 U+2028 U+2029
+				DOT={0,'\n'-1,'\n'+1,'\r'-1,'\r'+1,0x84,0x86,0x2027,0x202A,Character.MAX_CODE_POINT};
+		private final String regex;
+		private int i;
+
+		Parser(String regex){
+			this.regex=regex;
+		}
+
+		List<Position> parse(){
+			for(int k=0;k<regex.length();k++){
+				if(Character.isSurrogate(regex.charAt(k))){
+					return null;
+				}
+			}
+			int end=regex.length();
+			if(end>0&&regex.charAt(0)=='^'){
+				i=1;
+			}
+			if(end>i&&regex.charAt(end-1)=='$'&&!escaped(end-1)){
+				end--;
+			}
+			List<Position> positions=new ArrayList<>();
+			while(i<end){
+				int[] ranges=atom(end);
+				if(ranges==null){
+					return null;
+				}
+				if(!quantifier(end,ranges,positions)){
+					return null;
+				}
+				if(positions.size()>MAX_POSITIONS){
+					return null;
+				}
+			}
+			return positions;
+		}
+
+		private boolean escaped(int index){
+			int slashes=0;
+			for(int k=index-1;k>=0&&regex.charAt(k)=='\\';k--){
+				slashes++;
+			}
+			return (slashes&1)==1;
+		}
+
+		private int[] atom(int end){
+			char c=regex.charAt(i++);
+			switch(c){
+				case '.':
+					return DOT;
+				case '[':
+					return charClass(end);
+				case '\\':
+					if(i>=end){
+						return null;
+					}
+					return escape(regex.charAt(i++),false);
+				case '(':case ')':case '|':case '{':case '}':case '*':case '+':case '?':case '^':case '$':case ']':
+					return null;
+				default:
+					return new int[]{c,c};
+			}
+		}
+
+		/**
+		 * 功能描述：转义字符,inClass时不接受\D\W\S(取反后与类中其他项合并的语义交给Pattern)
+		 */
+		private int[] escape(char c,boolean inClass){
+			switch(c){
+				case 'd':
+					return DIGIT;
+				case 'w':
+					return WORD;
+				case 's':
+					return SPACE;
+				case 'D':
+					return inClass?null:negate(DIGIT);
+				case 'W':
+					return inClass?null:negate(WORD);
+				case 'S':
+					return inClass?null:negate(SPACE);
+				case 't':
+					return new int[]{'\t','\t'};
+				case 'n':
+					return new int[]{'\n','\n'};
+				case 'r':
+					return new int[]{'\r','\r'};
+				case 'f':
+					return new int[]{'\f','\f'};
+				default:
+					//字母数字的其他转义(如\b \p \x \0 \Q及unicode转义)均有特殊含义
+					if(c<128&&!Character.isLetterOrDigit(c)){
+						return new int[]{c,c};
+					}
+					return null;
+			}
+		}
+
+		private int[] charClass(int end){
+			boolean negate=false;
+			if(i<end&&regex.charAt(i)=='^'){
+				negate=true;
+				i++;
+			}
+			List<int[]> items=new ArrayList<>();
+			boolean first=true;
+			while(true){
+				if(i>=end){
+					return null;
+				}
+				char c=regex.charAt(i++);
+				if(c==']'){
+					if(first){
+						return null;
+					}
+					break;
+				}
+				if(c=='['||c=='&'){
+					return null;
+				}
+				int lo;
+				if(c=='\\'){
+					if(i>=end){
+						return null;
+					}
+					char e=regex.charAt(i++);
+					int[] item=escape(e,true);
+					if(item==null){
+						return null;
+					}
+					if(e=='d'||e=='w'||e=='s'){
+						//预定义类不能作为区间端点
+						if(range(end)){
+							return null;
+						}
+						items.add(item);
+						first=false;
+						continue;
+					}
+					lo=item[0];
+				}else if(c=='-'&&!first&&i<end&&regex.charAt(i)!=']'){
+					return null;
+				}else{
+					lo=c;
+				}
+				if(range(end)){
+					char h=regex.charAt(i+1);
+					if(h=='\\'||h=='['||h=='&'){
+						return null;
+					}
+					i+=2;
+					if(h<lo){
+						return null;
+					}
+					items.add(new int[]{lo,h});
+				}else{
+					items.add(new int[]{lo,lo});
+				}
+				first=false;
+			}
+			int[] ranges=union(items);
+			return negate?negate(ranges):ranges;
+		}
+
+		/**
+		 * 功能描述：当前位置是否为区间的'-'(其后不是']')
+		 */
+		private boolean range(int end){
+			return i+1<end&&regex.charAt(i)=='-'&&regex.charAt(i+1)!=']';
+		}
+
+		private boolean quantifier(int end,int[] ranges,List<Position> positions){
+			int min=1,max=1;
+			if(i<end){
+				char c=regex.charAt(i);
+				if(c=='?'){
+					min=0;
+					i++;
+				}else if(c=='*'){
+					min=0;
+					max=-1;
+					i++;
+				}else if(c=='+'){
+					max=-1;
+					i++;
+				}else if(c=='{'){
+					int close=regex.indexOf('}',i);
+					if(close<0||close>=end){
+						return false;
+					}
+					String body=regex.substring(i+1,close);
+					int comma=body.indexOf(',');
+					try{
+						if(comma<0){
+							min=max=Integer.parseInt(body);
+						}else{
+							min=Integer.parseInt(body.substring(0,comma));
+							max=comma==body.length()-1?-1:Integer.parseInt(body.substring(comma+1));
+						}
+					}catch(NumberFormatException e){
+						return false;
+					}
+					if(min<0||(max>=0&&max<min)||min>MAX_POSITIONS||max>MAX_POSITIONS){
+						return false;
+					}
+					i=close+1;
+				}
+				//懒惰/占有量词交给Pattern
+				if(i<end&&(min!=1||max!=1)&&(regex.charAt(i)=='?'||regex.charAt(i)=='+')){
+					return false;
+				}
+			}
+			for(int k=0;k<min;k++){
+				positions.add(new Position(ranges,false,max<0&&k==min-1));
+			}
+			if(max<0){
+				if(min==0){
+					positions.add(new Position(ranges,true,true));
+				}
+			}else{
+				for(int k=min;k<max;k++){
+					positions.add(new Position(ranges,true,false));
+				}
+			}
+			return positions.size()<=MAX_POSITIONS;
+		}
+
+		private static int[] union(List<int[]> items){
+			List<int[]> pairs=new ArrayList<>();
+			for(int[] item : items){
+				for(int k=0;k<item.length;k+=2){
+					pairs.add(new int[]{item[k],item[k+1]});
+				}
+			}
+			pairs.sort((a,b)->Integer.compare(a[0],b[0]));
+			List<int[]> merged=new ArrayList<>();
+			for(int[] p : pairs){
+				int[] last=merged.isEmpty()?null:merged.get(merged.size()-1);
+				if(last!=null&&p[0]<=last[1]+1){
+					last[1]=Math.max(last[1],p[1]);
+				}else{
+					merged.add(p);
+				}
+			}
+			int[] ranges=new int[merged.size()*2];
+			for(int k=0;k<merged.size();k++){
+				ranges[2*k]=merged.get(k)[0];
+				ranges[2*k+1]=merged.get(k)[1];
+			}
+			return ranges;
+		}
+
+		private static int[] negate(int[] ranges){
+			List<int[]> items=new ArrayList<>();
+			int from=0;
+			for(int k=0;k<ranges.length;k+=2){
+				if(ranges[k]>from){
+					items.add(new int[]{from,ranges[k]-1});
+				}
+				from=ranges[k+1]+1;
+			}
+			if(from<=Character.MAX_CODE_POINT){
+				items.add(new int[]{from,Character.MAX_CODE_POINT});
+			}
+			return union(items);
+		}
+	}
+}
@@ -0,0 +1,465 @@
+package com.l.validator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * 功能描述：按依赖关系组织的跨字段、条件校验规则图,构建完成后不可变,可被多个线程共享<br/>
+ * 			规则通过{@link Builder#after(String...)}声明依赖,只有依赖全部通过时才执行,否则连同其后续规则整体跳过;
+ * 			条件节点({@link Builder#guard(String, Predicate)})不成立时只跳过后续规则,不产生错误;<br/>
+ * 			构建时按依赖拓扑排序,同时可执行的规则按代价({@link Builder#cost(int)})从低到高、再按声明顺序排列,正则等高代价规则排在最后,执行顺序固定;<br/>
+ * 			{@link Builder#expr(Function)}声明的子表达式在一次校验内最多计算一次,被多条规则共享
+ * <pre>
+ * eg:
+ * RuleGraph.Builder&lt;Order&gt; b=RuleGraph.&lt;Order&gt;builder(505,"invalid order");
+ * RuleGraph.Expr&lt;Order,LocalDate&gt; start=b.expr(Order::getStart),end=b.expr(Order::getEnd);
+ * RuleGraph&lt;Order&gt; graph=b
+ * 	.notNull("start",start,601,"start required")
+ * 	.notNull("end",end,602,"end required")
+ * 	.rule("period",start,end,(s,e)-&gt;e.isAfter(s),603,"end must be after start").after("start","end")
+ * 	.guard("corp",o-&gt;o.getType()==Type.CORP)
+ * 	.notBlank("taxId",b.expr(Order::getTaxId),604,"taxId required").after("corp")
+ * 	.build();
+ * graph.validate(order);//不满足时抛出执行顺序上第一个失败规则的ValidationException
+ * </pre>
+ * @author: l.sl
+ */
+public final class RuleGraph<T>{
+	/** 常用代价:简单的空值/长度判断、默认、正则等逐字符匹配 */
+	public final static int CHEAP=1,NORMAL=10,EXPENSIVE=100;
+	/** 子表达式的值为null时的占位,values中的null表示尚未计算 */
+	private final static Object NULL=new Object();
+	private final Node<T>[] nodes;
+	/** nodes[i]的依赖在nodes中的下标,依赖总在自身之前 */
+	private final int[][] dependencies;
+	/** 节点不超过64个时nodes[i]的依赖位图,判断依赖只需一次位运算;否则为null */
+	private final long[] masks;
+	private final int exprs;
+	private final Object owner;
+	private final ThrowMode throwmode;
+
+	private RuleGraph(Node<T>[] nodes,int[][] dependencies,int exprs,Object owner,ThrowMode throwmode){
+		this.nodes=nodes;
+		this.dependencies=dependencies;
+		this.masks=nodes.length>Long.SIZE?null:new long[nodes.length];
+		for(int i=0;masks!=null&&i<nodes.length;i++){
+			for(int d:dependencies[i]){
+				masks[i]|=1L<<d;
+			}
+		}
+		this.exprs=exprs;
+		this.owner=owner;
+		this.throwmode=throwmode;
+	}
+
+	/**
+	 * 功能描述：获取默认错误编号、默认错误信息的构建器
+	 */
+	public final static <T> Builder<T> builder(){
+		return new Builder<>(Validator.DCO,Validator.DEX);
+	}
+
+	/**
+	 * 功能描述：获取指定默认错误编号、默认错误信息的构建器
+	 */
+	public final static <T> Builder<T> builder(int co,String ex){
+		return new Builder<>(co,ex);
+	}
+
+	/**
+	 * 功能描述：按执行顺序校验,遇到第一个失败的规则即抛出异常
+	 */
+	public void validate(T target){
+		evaluate(target,null,false);
+	}
+
+	/**
+	 * 功能描述：执行全部可执行的规则并将失败记录到给定结果中,失败规则的后续规则被跳过
+	 */
+	public ValidationResult validate(T target,ValidationResult result){
+		evaluate(target,result,false);
+		return result;
+	}
+
+	/**
+	 * 功能描述：是否全部可执行的规则都满足
+	 */
+	public boolean test(T target){
+		return evaluate(target,null,true);
+	}
+
+	public int size(){
+		return nodes.length;
+	}
+
+	/**
+	 * 功能描述：构建时确定的执行顺序(节点id),便于排查
+	 */
+	public List<String> order(){
+		List<String> order=new ArrayList<>(nodes.length);
+		for(Node<T> n:nodes){
+			order.add(n.id);
+		}
+		return order;
+	}
+
+	private boolean evaluate(T target,ValidationResult result,boolean quiet){
+		Context<T> context=new Context<>(target,exprs,owner);
+		//已通过的节点,节点不超过64个时使用位图
+		long passed=0L;
+		boolean[] states=masks==null?new boolean[nodes.length]:null;
+		boolean valid=true;
+		for(int i=0;i<nodes.length;i++){
+			if(masks!=null?(masks[i]&~passed)!=0:!ready(states,dependencies[i])){
+				continue;
+			}
+			Node<T> node=nodes[i];
+			int status=node.test(context);
+			if(status==Checks.PASS){
+				if(masks!=null){
+					passed|=1L<<i;
+				}else{
+					states[i]=true;
+				}
+				continue;
+			}
+			if(node.guard){
+				continue;
+			}
+			valid=false;
+			if(quiet){
+				return false;
+			}
+			if(result==null){
+				throw status==Checks.UNKNOWN_TYPE?ExceptionCache.create(throwmode,Validator.UNKOWN_TYPE_CO,Validator.UNKNOWN_TYPE_EX)
+						:ExceptionCache.create(throwmode,node.co,node.ex);
+			}
+			if(status==Checks.UNKNOWN_TYPE){
+				result.add(Validator.UNKOWN_TYPE_CO,Validator.UNKNOWN_TYPE_EX);
+			}else{
+				result.add(node.co,node.ex);
+			}
+		}
+		return valid;
+	}
+
+	private static boolean ready(boolean[] states,int[] dependencies){
+		for(int d:dependencies){
+			if(!states[d]){
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/*   expression part   */
+	/**
+	 * 功能描述：一次校验内只计算一次的子表达式,只能在创建它的构建器所构建的规则图中使用
+	 */
+	public final static class Expr<T,V>{
+		private final Object owner;
+		private final int slot;
+		private final Function<? super T,? extends V> getter;
+
+		private Expr(Object owner,int slot,Function<? super T,? extends V> getter){
+			this.owner=owner;
+			this.slot=slot;
+			this.getter=getter;
+		}
+	}
+
+	/**
+	 * 功能描述：一次校验的上下文,持有被校验对象与已计算的子表达式,不可跨校验或跨线程使用
+	 */
+	public final static class Context<T>{
+		private final T target;
+		private final Object[] values;
+		private final Object owner;
+
+		private Context(T target,int exprs,Object owner){
+			this.target=target;
+			this.owner=owner;
+			this.values=new Object[exprs];
+		}
+
+		public T target(){
+			return target;
+		}
+
+		/**
+		 * 功能描述：子表达式的值,首次访问时计算并缓存(包括null)
+		 */
+		@SuppressWarnings("unchecked")
+		public <V> V get(Expr<T,V> expr){
+			if(expr.owner!=owner||expr.slot>=values.length){
+				throw new IllegalArgumentException("expression belongs to another rule graph");
+			}
+			Object v=values[expr.slot];
+			if(v==null){
+				v=expr.getter.apply(target);
+				values[expr.slot]=v==null?NULL:v;
+				return (V)v;
+			}
+			return v==NULL?null:(V)v;
+		}
+	}
+
+	/*   node part   */
+	private abstract static class Node<T>{
+		final String id;
+		final int co;
+		final String ex;
+		final boolean guard;
+		final int order;
+		int cost;
+		String[] after={};
+
+		Node(String id,int co,String ex,boolean guard,int cost,int order){
+			this.id=id;
+			this.co=co;
+			this.ex=ex;
+			this.guard=guard;
+			this.cost=cost;
+			this.order=order;
+		}
+
+		abstract int test(Context<T> context);
+	}
+
+	/**
+	 * 功能描述：{@link RuleGraph}构建器,非线程安全;after/cost作用于最近添加的节点
+	 */
+	public final static class Builder<T>{
+		private final List<Node<T>> nodes=new ArrayList<>();
+		private final Map<String,Node<T>> ids=new HashMap<>();
+		private final Object owner=new Object();
+		private final int co;
+		private final String ex;
+		private int exprs;
+		private ThrowMode throwmode=Validator.getDefaultThrowMode();
+
+		private Builder(int co,String ex){
+			this.co=co;
+			this.ex=ex;
+		}
+
+		/**
+		 * 功能描述：设置规则失败时异常的构造方式
+		 */
+		public Builder<T> throwMode(ThrowMode mode){
+			this.throwmode=mode==null?ThrowMode.STACK_TRACE:mode;
+			return this;
+		}
+
+		/**
+		 * 功能描述：声明共享的子表达式,多条规则引用同一表达式时一次校验只计算一次
+		 */
+		public <V> Expr<T,V> expr(Function<? super T,? extends V> getter){
+			if(getter==null){
+				throw new IllegalArgumentException("getter must not be null");
+			}
+			return new Expr<>(owner,exprs++,getter);
+		}
+
+		private Builder<T> add(String id,int co,String ex,boolean guard,int cost,Predicate<Context<T>> test){
+			return add(new Node<T>(id,co,ex,guard,cost,nodes.size()){
+				int test(Context<T> context){
+					return Checks.of(test.test(context));
+				}
+			});
+		}
+
+		private Builder<T> add(Node<T> node){
+			if(node.id==null||ids.containsKey(node.id)){
+				throw new IllegalArgumentException("rule id must be unique and not null:"+node.id);
+			}
+			ids.put(node.id,node);
+			nodes.add(node);
+			return this;
+		}
+
+		private Node<T> last(){
+			if(nodes.isEmpty()){
+				throw new IllegalStateException("no rule to configure");
+			}
+			return nodes.get(nodes.size()-1);
+		}
+
+		private void owned(Expr<T,?> expr){
+			if(expr==null||expr.owner!=owner){
+				throw new IllegalArgumentException("expression belongs to another rule graph");
+			}
+		}
+
+		/*   structure part   */
+		/**
+		 * 功能描述：最近添加的节点只在给定节点全部通过(条件成立)时执行,依赖须在构建前声明
+		 */
+		public Builder<T> after(String ... ids){
+			Node<T> node=last();
+			String[] merged=Arrays.copyOf(node.after,node.after.length+ids.length);
+			System.arraycopy(ids,0,merged,node.after.length,ids.length);
+			node.after=merged;
+			return this;
+		}
+
+		/**
+		 * 功能描述：设置最近添加的节点的代价,可同时执行的节点按代价从低到高执行
+		 */
+		public Builder<T> cost(int cost){
+			last().cost=cost;
+			return this;
+		}
+
+		/**
+		 * 功能描述：条件节点,不成立时跳过依赖它的规则,本身不产生错误
+		 */
+		public Builder<T> guard(String id,Predicate<? super T> condition){
+			return add(id,co,ex,true,CHEAP,c->condition.test(c.target));
+		}
+
+		/**
+		 * 功能描述：基于子表达式的条件节点
+		 */
+		public <V> Builder<T> guard(String id,Expr<T,V> value,Predicate<? super V> condition){
+			owned(value);
+			return add(id,co,ex,true,CHEAP,c->condition.test(c.get(value)));
+		}
+
+		/*   rule part   */
+		public Builder<T> rule(String id,Predicate<? super Context<T>> check,int co,String ex){
+			return add(id,co,ex,false,NORMAL,c->check.test(c));
+		}
+		public Builder<T> rule(String id,Predicate<? super Context<T>> check){
+			return rule(id,check,co,ex);
+		}
+		public <V> Builder<T> rule(String id,Expr<T,V> value,Predicate<? super V> check,int co,String ex){
+			owned(value);
+			return add(id,co,ex,false,NORMAL,c->check.test(c.get(value)));
+		}
+		public <V> Builder<T> rule(String id,Expr<T,V> value,Predicate<? super V> check){
+			return rule(id,value,check,co,ex);
+		}
+		/**
+		 * 功能描述：跨字段规则,两个操作数均为共享子表达式
+		 */
+		public <A,B> Builder<T> rule(String id,Expr<T,A> a,Expr<T,B> b,BiPredicate<? super A,? super B> check,int co,String ex){
+			owned(a);
+			owned(b);
+			return add(id,co,ex,false,NORMAL,c->check.test(c.get(a),c.get(b)));
+		}
+		public <A,B> Builder<T> rule(String id,Expr<T,A> a,Expr<T,B> b,BiPredicate<? super A,? super B> check){
+			return rule(id,a,b,check,co,ex);
+		}
+
+		/*   value part   */
+		public <V> Builder<T> notNull(String id,Expr<T,V> value,int co,String ex){
+			owned(value);
+			return add(id,co,ex,false,CHEAP,c->c.get(value)!=null);
+		}
+		public <V> Builder<T> notNull(String id,Expr<T,V> value){
+			return notNull(id,value,co,ex);
+		}
+		public <V> Builder<T> notBlank(String id,Expr<T,V> value,int co,String ex){
+			owned(value);
+			return add(new Node<T>(id,co,ex,false,CHEAP,nodes.size()){
+				int test(Context<T> context){
+					return Checks.notBlank(context.get(value));
+				}
+			});
+		}
+		public <V> Builder<T> notBlank(String id,Expr<T,V> value){
+			return notBlank(id,value,co,ex);
+		}
+		public <V> Builder<T> inRange(String id,Number begin,Number end,Expr<T,V> value,boolean beginInclude,boolean endInclude,int co,String ex){
+			owned(value);
+			return add(new Node<T>(id,co,ex,false,CHEAP,nodes.size()){
+				int test(Context<T> context){
+					return Checks.inRange(begin,end,context.get(value),beginInclude,endInclude);
+				}
+			});
+		}
+		public <V> Builder<T> inRange(String id,Number begin,Number end,Expr<T,V> value,boolean beginInclude,boolean endInclude){
+			return inRange(id,begin,end,value,beginInclude,endInclude,co,ex);
+		}
+		public <V> Builder<T> inRange(String id,Number begin,Number end,Expr<T,V> value){
+			return inRange(id,begin,end,value,false,false,co,ex);
+		}
+		public Builder<T> regExp(String id,Expr<T,String> value,Pattern pattern,int co,String ex){
+			owned(value);
+			RegExpMatcher matcher=RegExpMatcher.of(pattern);
+			return add(id,co,ex,false,EXPENSIVE,c->Checks.matches(c.get(value),matcher));
+		}
+		public Builder<T> regExp(String id,Expr<T,String> value,Pattern pattern){
+			return regExp(id,value,pattern,co,ex);
+		}
+		public Builder<T> regExp(String id,Expr<T,String> value,String regExp,int co,String ex){
+			return regExp(id,value,Pattern.compile(regExp),co,ex);
+		}
+		public Builder<T> regExp(String id,Expr<T,String> value,String regExp){
+			return regExp(id,value,regExp,co,ex);
+		}
+
+		/**
+		 * 功能描述：按依赖拓扑排序并构建不可变的规则图,存在未声明的依赖或循环依赖时抛出IllegalStateException
+		 */
+		@SuppressWarnings({"unchecked","rawtypes"})
+		public RuleGraph<T> build(){
+			int n=nodes.size();
+			int[] pending=new int[n];
+			List<List<Node<T>>> dependents=new ArrayList<>(n);
+			for(int i=0;i<n;i++){
+				dependents.add(new ArrayList<>());
+			}
+			for(Node<T> node:nodes){
+				for(String id:node.after){
+					Node<T> d=ids.get(id);
+					if(d==null){
+						throw new IllegalStateException("rule "+node.id+" depends on undefined rule "+id);
+					}
+					pending[node.order]++;
+					dependents.get(d.order).add(node);
+				}
+			}
+			PriorityQueue<Node<T>> ready=new PriorityQueue<>((a,b)->a.cost!=b.cost?Integer.compare(a.cost,b.cost):Integer.compare(a.order,b.order));
+			for(Node<T> node:nodes){
+				if(pending[node.order]==0){
+					ready.add(node);
+				}
+			}
+			Node<T>[] sorted=new Node[n];
+			int[] position=new int[n];
+			int count=0;
+			while(!ready.isEmpty()){
+				Node<T> node=ready.poll();
+				position[node.order]=count;
+				sorted[count++]=node;
+				for(Node<T> d:dependents.get(node.order)){
+					if(--pending[d.order]==0){
+						ready.add(d);
+					}
+				}
+			}
+			if(count<n){
+				throw new IllegalStateException("rule graph contains a dependency cycle");
+			}
+			int[][] dependencies=new int[n][];
+			for(int i=0;i<n;i++){
+				String[] after=sorted[i].after;
+				dependencies[i]=new int[after.length];
+				for(int j=0;j<after.length;j++){
+					dependencies[i][j]=position[ids.get(after[j]).order];
+				}
+			}
+			return new RuleGraph<>(sorted,dependencies,exprs,owner,throwmode);
+		}
+	}
+}
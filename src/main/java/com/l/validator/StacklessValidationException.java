@@ -0,0 +1,35 @@
+package com.l.validator;
+
+/**
+ * 功能描述：不填充堆栈的校验异常,{@link ThrowMode#CACHED}模式下会被多个线程共享,因此不允许修改co/ex
+ * @author: l.sl
+ */
+public final class StacklessValidationException extends ValidationException{
+	private static final long serialVersionUID = 1L;
+	private final boolean shared;
+	
+	StacklessValidationException(int co, String ex, boolean shared) {
+		super(co, ex, false);
+		this.shared = shared;
+	}
+	
+	public boolean isShared() {
+		return shared;
+	}
+	
+	@Override
+	public void setCo(int co) {
+		if(shared){
+			throw new UnsupportedOperationException("shared validation exception is immutable");
+		}
+		super.setCo(co);
+	}
+	
+	@Override
+	public void setEx(String ex) {
+		if(shared){
+			throw new UnsupportedOperationException("shared validation exception is immutable");
+		}
+		super.setEx(ex);
+	}
+}
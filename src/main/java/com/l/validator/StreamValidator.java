@@ -0,0 +1,233 @@
+package com.l.validator;
+
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 功能描述：流式逐条校验记录,通过的记录交给validSink,失败的记录交给invalidSink,内存占用与数据总量无关<br/>
+ * 			拉取模式:{@link #validate(Iterator)}/{@link #validate(Stream)}在当前线程边读边校验<br/>
+ * 			推送模式:{@link #start(Executor)}返回{@link Stage},生产者调用onNext推送记录,校验在另一个线程执行;
+ * 			缓冲区满时onNext阻塞,从而对生产者形成背压,解析、校验、写库可以重叠进行
+ * <pre>
+ * eg:
+ * StreamValidator&lt;Row&gt; v=StreamValidator.of(plan,validRows::add,(index,row,co,ex)-&gt;errors.add(index+":"+ex));
+ * StreamValidator.Summary s=v.validate(csvRows.iterator());
+ *
+ * StreamValidator.Stage&lt;Row&gt; stage=v.bufferSize(1024).start(executor);
+ * parser.forEach(stage::onNext);//缓冲区满时阻塞
+ * stage.onComplete();
+ * stage.completion().join();
+ * </pre>
+ * @author: l.sl
+ */
+public final class StreamValidator<T>{
+	private final static int DEFAULT_BUFFER_SIZE=256;
+	private final ValidationPlan<? super T> plan;
+	private final Consumer<? super T> validsink;
+	private final InvalidSink<? super T> invalidsink;
+	private final int buffersize;
+
+	private StreamValidator(ValidationPlan<? super T> plan,Consumer<? super T> validsink,InvalidSink<? super T> invalidsink,int buffersize){
+		if(plan==null||validsink==null||invalidsink==null){
+			throw new IllegalArgumentException("plan and sinks must not be null");
+		}
+		this.plan=plan;
+		this.validsink=validsink;
+		this.invalidsink=invalidsink;
+		this.buffersize=buffersize;
+	}
+
+	/**
+	 * 功能描述：创建流式校验器
+	 */
+	public final static <T> StreamValidator<T> of(ValidationPlan<? super T> plan,Consumer<? super T> validsink,InvalidSink<? super T> invalidsink){
+		return new StreamValidator<>(plan,validsink,invalidsink,DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * 功能描述：返回使用指定缓冲区大小(推送模式下最多缓存的记录数)的新校验器
+	 */
+	public StreamValidator<T> bufferSize(int buffersize){
+		if(buffersize<=0){
+			throw new IllegalArgumentException("buffer size must be positive:"+buffersize);
+		}
+		return new StreamValidator<>(plan,validsink,invalidsink,buffersize);
+	}
+
+	/*   pull part   */
+	/**
+	 * 功能描述：在当前线程逐条读取并校验
+	 */
+	public Summary validate(Iterator<? extends T> source){
+		long valid=0,invalid=0;
+		while(source.hasNext()){
+			if(accept(valid+invalid,source.next())){
+				valid++;
+			}else{
+				invalid++;
+			}
+		}
+		return new Summary(valid,invalid);
+	}
+
+	public Summary validate(Stream<? extends T> source){
+		return validate(source.iterator());
+	}
+
+	@SuppressWarnings("unchecked")
+	private boolean accept(long index,T record){
+		ValidationPlan<T> p=(ValidationPlan<T>)plan;
+		int failure=p.firstFailure(record);
+		if(failure==-1){
+			validsink.accept(record);
+			return true;
+		}
+		invalidsink.accept(index,record,p.co(failure),p.ex(failure));
+		return false;
+	}
+
+	/*   push part   */
+	/**
+	 * 功能描述：在给定线程池中启动校验,返回供生产者推送记录的{@link Stage}
+	 */
+	public Stage<T> start(Executor executor){
+		Stage<T> stage=new Stage<>(this);
+		executor.execute(stage::drain);
+		return stage;
+	}
+
+	/**
+	 * 功能描述：推送模式的校验阶段,方法命名与Reactive Streams的Subscriber一致,便于在JDK9+上适配Flow.Publisher
+	 */
+	public final static class Stage<T>{
+		private final static Object END=new Object();
+		private final static long POLL_MILLIS=50;
+		private final StreamValidator<T> validator;
+		private final BlockingQueue<Object> queue;
+		private final CompletableFuture<Summary> completion=new CompletableFuture<>();
+		private volatile boolean closed;
+
+		private Stage(StreamValidator<T> validator){
+			this.validator=validator;
+			this.queue=new ArrayBlockingQueue<>(validator.buffersize);
+		}
+
+		/**
+		 * 功能描述：推送一条记录,缓冲区满时阻塞;阶段已结束(完成或出错)时抛出IllegalStateException
+		 */
+		public void onNext(T record){
+			if(record==null){
+				throw new IllegalArgumentException("record must not be null");
+			}
+			offer(record);
+		}
+
+		/**
+		 * 功能描述：生产者出错,丢弃尚未校验的记录并以该异常结束
+		 */
+		public void onError(Throwable e){
+			closed=true;
+			queue.clear();
+			completion.completeExceptionally(e);
+		}
+
+		/**
+		 * 功能描述：数据推送完毕,缓冲区中的记录校验完成后结束
+		 */
+		public void onComplete(){
+			offer(END);
+			closed=true;
+		}
+
+		/**
+		 * 功能描述：全部记录校验完成时完成,sink抛出异常或生产者onError时异常完成
+		 */
+		public CompletableFuture<Summary> completion(){
+			return completion;
+		}
+
+		private void offer(Object o){
+			if(closed||completion.isDone()){
+				throw new IllegalStateException("stage is already completed");
+			}
+			try{
+				while(!queue.offer(o,POLL_MILLIS,TimeUnit.MILLISECONDS)){
+					if(completion.isDone()){
+						throw new IllegalStateException("stage is already completed");
+					}
+				}
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("interrupted while waiting for buffer space",e);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private void drain(){
+			long valid=0,invalid=0;
+			try{
+				while(!completion.isDone()){
+					Object o=queue.poll(POLL_MILLIS,TimeUnit.MILLISECONDS);
+					if(o==null){
+						continue;
+					}
+					if(o==END){
+						completion.complete(new Summary(valid,invalid));
+						return;
+					}
+					if(validator.accept(valid+invalid,(T)o)){
+						valid++;
+					}else{
+						invalid++;
+					}
+				}
+			}catch(Throwable e){
+				closed=true;
+				queue.clear();
+				completion.completeExceptionally(e);
+			}
+		}
+	}
+
+	/**
+	 * 功能描述：接收失败记录,index为记录在流中的序号(从0开始),co/ex为第一个失败规则的编号与信息
+	 */
+	public interface InvalidSink<T>{
+		void accept(long index,T record,int co,String ex);
+	}
+
+	/**
+	 * 功能描述：校验统计
+	 */
+	public final static class Summary{
+		private final long valid,invalid;
+
+		Summary(long valid,long invalid){
+			this.valid=valid;
+			this.invalid=invalid;
+		}
+
+		public long getValid(){
+			return valid;
+		}
+
+		public long getInvalid(){
+			return invalid;
+		}
+
+		public long getTotal(){
+			return valid+invalid;
+		}
+
+		@Override
+		public String toString(){
+			return "Summary[valid="+valid+",invalid="+invalid+"]";
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package com.l.validator;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 功能描述：不可变的字符串候选集合,开放寻址(线性探测)哈希表,构建一次后供beIn/beNotIn以O(1)且无对象分配的方式判断
+ * @author: l.sl
+ */
+public final class StringCandidateSet extends AbstractSet<String>{
+	private final String[] keys;
+	private final int mask;
+	private final int size;
+	
+	private StringCandidateSet(Collection<String> values){
+		int capacity=tableSize(values.size());
+		this.keys=new String[capacity];
+		this.mask=capacity-1;
+		int count=0;
+		for(String v:values){
+			if(v==null){
+				throw new IllegalArgumentException("candidate must not be null");
+			}
+			int i=mix(v.hashCode())&mask;
+			while(keys[i]!=null&&!keys[i].equals(v)){
+				i=(i+1)&mask;
+			}
+			if(keys[i]==null){
+				keys[i]=v;
+				count++;
+			}
+		}
+		this.size=count;
+	}
+	
+	/**
+	 * 功能描述：将候选值冻结为不可变集合
+	 */
+	public final static StringCandidateSet of(String ... values){
+		return new StringCandidateSet(Arrays.asList(values));
+	}
+	
+	public final static StringCandidateSet of(Collection<String> values){
+		return new StringCandidateSet(values);
+	}
+	
+	/**
+	 * 功能描述：是否包含给定字符串
+	 */
+	public boolean contains(String value){
+		if(value==null){
+			return false;
+		}
+		int i=mix(value.hashCode())&mask;
+		String k;
+		while((k=keys[i])!=null){
+			if(k==value||k.equals(value)){
+				return true;
+			}
+			i=(i+1)&mask;
+		}
+		return false;
+	}
+	
+	@Override
+	public boolean contains(Object o){
+		return o instanceof String&&contains((String)o);
+	}
+	
+	@Override
+	public int size(){
+		return size;
+	}
+	
+	@Override
+	public Iterator<String> iterator(){
+		return new Iterator<String>(){
+			private int next=advance(0);
+			
+			private int advance(int from){
+				while(from<keys.length&&keys[from]==null){
+					from++;
+				}
+				return from;
+			}
+			
+			public boolean hasNext(){
+				return next<keys.length;
+			}
+			
+			public String next(){
+				if(next>=keys.length){
+					throw new NoSuchElementException();
+				}
+				String k=keys[next];
+				next=advance(next+1);
+				return k;
+			}
+		};
+	}
+	
+	/**
+	 * 功能描述：装载因子不超过0.5的2的幂容量
+	 */
+	static int tableSize(int expected){
+		int capacity=Integer.highestOneBit(Math.max(expected,1)*2-1)<<1;
+		return Math.max(capacity,2);
+	}
+	
+	static int mix(int h){
+		h*=0x9E3779B9;
+		return h^(h>>>16);
+	}
+}
@@ -0,0 +1,20 @@
+package com.l.validator;
+
+/**
+ * 功能描述：校验失败时{@link ValidationException}的构造方式
+ * @author: l.sl
+ */
+public enum ThrowMode{
+	/**
+	 * 每次失败都创建新异常并填充完整堆栈(默认)
+	 */
+	STACK_TRACE,
+	/**
+	 * 每次失败都创建新异常,但不填充堆栈
+	 */
+	STACKLESS,
+	/**
+	 * 按(co,ex)复用预先创建的无堆栈异常实例,复用的实例不可修改
+	 */
+	CACHED
+}
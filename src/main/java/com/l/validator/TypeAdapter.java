@@ -0,0 +1,32 @@
+package com.l.validator;
+
+/**
+ * 功能描述：为某一类型提供空判断、长度计算和包含判断,供beBlank/beNotBlank/beInRange/beNotInRange/beContains/beNotContains使用<br/>
+ * 			通过{@link TypeAdapters#register(Class, TypeAdapter)}注册后,原本报出"给定类型未知"的类型也可以参与校验
+ * @author: l.sl
+ */
+public interface TypeAdapter<T>{
+	/**
+	 * 功能描述：是否为空,对应beBlank
+	 */
+	boolean isBlank(T o);
+	
+	/**
+	 * 功能描述：是否不为空,对应beNotBlank,默认与{@link #isBlank(Object)}相反
+	 */
+	default boolean isNotBlank(T o){
+		return !isBlank(o);
+	}
+	
+	/**
+	 * 功能描述：对象的长度(数字类型为其值),需要逐个计数的类型在计数超过limit后可以直接返回
+	 */
+	double size(T o,double limit);
+	
+	/**
+	 * 功能描述：container中是否包含element,不支持包含判断的类型抛出UnsupportedOperationException
+	 */
+	default boolean contains(T container,Object element){
+		throw new UnsupportedOperationException();
+	}
+}
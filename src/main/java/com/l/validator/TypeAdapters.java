@@ -0,0 +1,264 @@
+package com.l.validator;
+
+import java.lang.reflect.Array;
+import java.nio.Buffer;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.BaseStream;
+
+/**
+ * 功能描述：{@link TypeAdapter}注册表,按具体类型缓存查找结果(ClassValue),同一调用点只需一次哈希查找即可得到适配器<br/>
+ * 			查找顺序:注册的类型(先父类链,再接口) > 内置类型(CharSequence,Collection,Map,Iterator,Spliterator,Stream,Number,数组,Buffer)
+ * @author: l.sl
+ */
+public final class TypeAdapters{
+	private final static TypeAdapter<Object> UNSUPPORTED=new TypeAdapter<Object>(){
+		public boolean isBlank(Object o){
+			throw new UnsupportedOperationException();
+		}
+		public double size(Object o,double limit){
+			return Double.NaN;
+		}
+	};
+	private final static Consumer<Object> NOOP=o->{};
+	private final static Map<Class<?>,TypeAdapter<?>> BUILTIN=new LinkedHashMap<>();
+	private static volatile Map<Class<?>,TypeAdapter<?>> registered=new LinkedHashMap<>();
+	private static volatile ClassValue<TypeAdapter<Object>> cache=newCache();
+	
+	static{
+		BUILTIN.put(CharSequence.class,new TypeAdapter<CharSequence>(){
+			public boolean isBlank(CharSequence o){
+				return o.length()==0;
+			}
+			public double size(CharSequence o,double limit){
+				return o.length();
+			}
+			public boolean contains(CharSequence container,Object element){
+				return container.toString().contains(element.toString());
+			}
+		});
+		BUILTIN.put(Collection.class,new TypeAdapter<Collection<?>>(){
+			public boolean isBlank(Collection<?> o){
+				return o.size()==0;
+			}
+			public double size(Collection<?> o,double limit){
+				return o.size();
+			}
+			public boolean contains(Collection<?> container,Object element){
+				return container.contains(element);
+			}
+		});
+		BUILTIN.put(Map.class,new TypeAdapter<Map<?,?>>(){
+			public boolean isBlank(Map<?,?> o){
+				return o.size()==0;
+			}
+			public double size(Map<?,?> o,double limit){
+				return o.size();
+			}
+			public boolean contains(Map<?,?> container,Object element){
+				return container.containsKey(element);
+			}
+		});
+		BUILTIN.put(Iterator.class,new TypeAdapter<Iterator<?>>(){
+			public boolean isBlank(Iterator<?> o){
+				return !o.hasNext();
+			}
+			public double size(Iterator<?> o,double limit){
+				double j=0;
+				while(o.hasNext()){
+					o.next();
+					j++;
+					//大于最大长度则直接break
+					if(j>limit){
+						break;
+					}
+				}
+				return j;
+			}
+		});
+		BUILTIN.put(Spliterator.class,new TypeAdapter<Spliterator<?>>(){
+			public boolean isBlank(Spliterator<?> o){
+				return spliteratorSize(o,0)==0;
+			}
+			public double size(Spliterator<?> o,double limit){
+				return spliteratorSize(o,limit);
+			}
+		});
+		BUILTIN.put(BaseStream.class,new TypeAdapter<BaseStream<?,?>>(){
+			public boolean isBlank(BaseStream<?,?> o){
+				return spliteratorSize(o.spliterator(),0)==0;
+			}
+			public double size(BaseStream<?,?> o,double limit){
+				return spliteratorSize(o.spliterator(),limit);
+			}
+		});
+		BUILTIN.put(Number.class,new TypeAdapter<Number>(){
+			public boolean isBlank(Number o){
+				return o.doubleValue()==0;
+			}
+			public boolean isNotBlank(Number o){
+				return o.doubleValue()>0;
+			}
+			public double size(Number o,double limit){
+				return o.doubleValue();
+			}
+		});
+		BUILTIN.put(Buffer.class,new TypeAdapter<Buffer>(){
+			public boolean isBlank(Buffer o){
+				return !o.hasRemaining();
+			}
+			public double size(Buffer o,double limit){
+				return o.remaining();
+			}
+		});
+	}
+	
+	private final static TypeAdapter<Object> ARRAY=new TypeAdapter<Object>(){
+		public boolean isBlank(Object o){
+			return Array.getLength(o)==0;
+		}
+		public double size(Object o,double limit){
+			return Array.getLength(o);
+		}
+		public boolean contains(Object container,Object element){
+			if(container instanceof Object[]){
+				for(Object e:(Object[])container){
+					if(element.equals(e)){
+						return true;
+					}
+				}
+				return false;
+			}
+			for(int i=0,len=Array.getLength(container);i<len;i++){
+				if(element.equals(Array.get(container,i))){
+					return true;
+				}
+			}
+			return false;
+		}
+	};
+	
+	private TypeAdapters(){
+	}
+	
+	/**
+	 * 功能描述：带SIZED特征时直接取精确长度,否则逐个前进,计数超过limit后停止
+	 */
+	private static double spliteratorSize(Spliterator<?> o,double limit){
+		long exact=o.getExactSizeIfKnown();
+		if(exact>=0){
+			return exact;
+		}
+		double j=0;
+		while(o.tryAdvance(NOOP)){
+			j++;
+			if(j>limit){
+				break;
+			}
+		}
+		return j;
+	}
+	
+	/**
+	 * 功能描述：注册指定类型(及其子类型)的适配器,优先于内置适配器;注册后已缓存的查找结果全部失效
+	 */
+	public final static synchronized <T> void register(Class<T> type,TypeAdapter<? super T> adapter){
+		if(type==null||adapter==null){
+			throw new IllegalArgumentException("type and adapter must not be null");
+		}
+		Map<Class<?>,TypeAdapter<?>> copy=new LinkedHashMap<>(registered);
+		copy.put(type,adapter);
+		registered=copy;
+		cache=newCache();
+	}
+	
+	/**
+	 * 功能描述：移除指定类型的适配器
+	 */
+	public final static synchronized void unregister(Class<?> type){
+		if(!registered.containsKey(type)){
+			return;
+		}
+		Map<Class<?>,TypeAdapter<?>> copy=new LinkedHashMap<>(registered);
+		copy.remove(type);
+		registered=copy;
+		cache=newCache();
+	}
+	
+	/**
+	 * 功能描述：获取给定类型的适配器,不支持的类型返回null
+	 */
+	public final static TypeAdapter<Object> of(Class<?> type){
+		TypeAdapter<Object> adapter=cache.get(type);
+		return adapter==UNSUPPORTED?null:adapter;
+	}
+	
+	private static ClassValue<TypeAdapter<Object>> newCache(){
+		return new ClassValue<TypeAdapter<Object>>(){
+			protected TypeAdapter<Object> computeValue(Class<?> type){
+				return resolve(type);
+			}
+		};
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static TypeAdapter<Object> resolve(Class<?> type){
+		Map<Class<?>,TypeAdapter<?>> snapshot=registered;
+		if(!snapshot.isEmpty()){
+			TypeAdapter<?> adapter=lookup(type,snapshot);
+			if(adapter!=null){
+				return (TypeAdapter<Object>)adapter;
+			}
+		}
+		if(type.isArray()){
+			return ARRAY;
+		}
+		for(Map.Entry<Class<?>,TypeAdapter<?>> e:BUILTIN.entrySet()){
+			if(e.getKey().isAssignableFrom(type)){
+				return (TypeAdapter<Object>)e.getValue();
+			}
+		}
+		return UNSUPPORTED;
+	}
+	
+	/**
+	 * 功能描述：先沿父类链查找,再按广度优先查找接口,距离越近优先级越高
+	 */
+	private static TypeAdapter<?> lookup(Class<?> type,Map<Class<?>,TypeAdapter<?>> snapshot){
+		for(Class<?> c=type;c!=null;c=c.getSuperclass()){
+			TypeAdapter<?> adapter=snapshot.get(c);
+			if(adapter!=null){
+				return adapter;
+			}
+		}
+		Deque<Class<?>> queue=new ArrayDeque<>();
+		Set<Class<?>> visited=new HashSet<>();
+		for(Class<?> c=type;c!=null;c=c.getSuperclass()){
+			for(Class<?> i:c.getInterfaces()){
+				queue.add(i);
+			}
+		}
+		while(!queue.isEmpty()){
+			Class<?> i=queue.poll();
+			if(!visited.add(i)){
+				continue;
+			}
+			TypeAdapter<?> adapter=snapshot.get(i);
+			if(adapter!=null){
+				return adapter;
+			}
+			for(Class<?> s:i.getInterfaces()){
+				queue.add(s);
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,224 @@
+package com.l.validator;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 功能描述：直接在UTF-8字节(byte[]片段或ByteBuffer)上做判断,不解码为String<br/>
+ * 			数字/电话号码的规则与对应的String校验一致,其中只有ASCII字符参与匹配,非ASCII字节一律视为非法字符
+ * @author: l.sl
+ */
+final class Utf8Scanner{
+	/** 非ASCII字节在{@link Bytes#charAt(int)}中的映射,不是任何数字或符号 */
+	private final static char NON_ASCII='\uFFFF';
+
+	private Utf8Scanner(){
+	}
+
+	/*   code point part   */
+	/**
+	 * 功能描述：严格按UTF-8(拒绝过长编码、代理区与超过U+10FFFF的编码)统计码点数,超过limit后停止计数,非法编码返回-1
+	 */
+	static long codePoints(Bytes b,long limit){
+		int len=b.length();
+		long count=0;
+		for(int i=0;i<len&&count<=limit;count++){
+			int c=b.byteAt(i);
+			if(c<0x80){
+				i++;
+				continue;
+			}
+			int n,lo=0x80,hi=0xBF;
+			if(c>=0xC2&&c<=0xDF){
+				n=1;
+			}else if(c>=0xE0&&c<=0xEF){
+				n=2;
+				if(c==0xE0){
+					lo=0xA0;
+				}else if(c==0xED){
+					hi=0x9F;
+				}
+			}else if(c>=0xF0&&c<=0xF4){
+				n=3;
+				if(c==0xF0){
+					lo=0x90;
+				}else if(c==0xF4){
+					hi=0x8F;
+				}
+			}else{
+				return -1;
+			}
+			if(i+n>=len){
+				return -1;
+			}
+			int next=b.byteAt(i+1);
+			if(next<lo||next>hi){
+				return -1;
+			}
+			for(int k=2;k<=n;k++){
+				if((b.byteAt(i+k)&0xC0)!=0x80){
+					return -1;
+				}
+			}
+			i+=n+1;
+		}
+		return count;
+	}
+
+	/*   digit part   */
+	/**
+	 * 功能描述：是否为非空的ASCII数字串
+	 */
+	static boolean digits(Bytes b){
+		return b.length()>0&&digits(b,0,b.length());
+	}
+
+	private static boolean digits(Bytes b,int from,int to){
+		for(int i=from;i<to;i++){
+			char c=b.charAt(i);
+			if(c<'0'||c>'9'){
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/*   phone part   */
+	/**
+	 * 功能描述：与{@link Checks#MOBILE_PHONE_PATTERN}一致:^[1][3,4,5,7,8,9][0-9]{9}$(字符类中的','同样被接受)
+	 */
+	static boolean mobilePhoneNumber(Bytes b){
+		if(b.length()!=11||b.charAt(0)!='1'){
+			return false;
+		}
+		switch(b.charAt(1)){
+			case '3':case '4':case '5':case '7':case '8':case '9':case ',':
+				return digits(b,2,11);
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * 功能描述：与{@link Checks#phoneNumber(String)}一致,不含'-'时为^[1-9]{1}[0-9]{5,8}$,否则为^[0][1-9]{2,3}-[0-9]{5,10}$
+	 */
+	static boolean phoneNumber(Bytes b){
+		int len=b.length(),dash=-1;
+		for(int i=0;i<len;i++){
+			if(b.charAt(i)=='-'){
+				dash=i;
+				break;
+			}
+		}
+		if(dash==-1){
+			if(len<6||len>9){
+				return false;
+			}
+			char c=b.charAt(0);
+			return c>='1'&&c<='9'&&digits(b,1,len);
+		}
+		//区号为0加2~3位1-9
+		if((dash!=3&&dash!=4)||b.charAt(0)!='0'){
+			return false;
+		}
+		for(int i=1;i<dash;i++){
+			char c=b.charAt(i);
+			if(c<'1'||c>'9'){
+				return false;
+			}
+		}
+		int rest=len-dash-1;
+		return rest>=5&&rest<=10&&digits(b,dash+1,len);
+	}
+
+	/*   contains part   */
+	/**
+	 * 功能描述：字节级子串查找,UTF-8是自同步编码,因此与解码后的String.contains结果一致
+	 */
+	static boolean contains(Bytes b,byte[] target){
+		int len=b.length(),tlen=target.length;
+		if(tlen==0){
+			return true;
+		}
+		int first=target[0]&0xFF;
+		for(int i=0,last=len-tlen;i<=last;i++){
+			if(b.byteAt(i)!=first){
+				continue;
+			}
+			int k=1;
+			while(k<tlen&&b.byteAt(i+k)==(target[k]&0xFF)){
+				k++;
+			}
+			if(k==tlen){
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 功能描述：byte[]片段或ByteBuffer的只读视图,不复制数据,也不改变ByteBuffer的position/limit<br/>
+	 * 			作为CharSequence时非ASCII字节映射为U+FFFF,可直接交给{@link NumberScanner}
+	 */
+	final static class Bytes implements CharSequence{
+		private final byte[] array;
+		private final ByteBuffer buffer;
+		private final int offset,length;
+
+		private Bytes(byte[] array,ByteBuffer buffer,int offset,int length){
+			this.array=array;
+			this.buffer=buffer;
+			this.offset=offset;
+			this.length=length;
+		}
+
+		static Bytes of(byte[] b,int offset,int length){
+			if(offset<0||length<0||offset>b.length-length){
+				throw new IndexOutOfBoundsException("offset:"+offset+",length:"+length+",size:"+b.length);
+			}
+			return new Bytes(b,null,offset,length);
+		}
+
+		/**
+		 * 功能描述：ByteBuffer的[position,limit)部分,堆内存直接访问底层数组
+		 */
+		static Bytes of(ByteBuffer b){
+			if(b.hasArray()){
+				return new Bytes(b.array(),null,b.arrayOffset()+b.position(),b.remaining());
+			}
+			return new Bytes(null,b,b.position(),b.remaining());
+		}
+
+		int byteAt(int index){
+			return (array!=null?array[offset+index]:buffer.get(offset+index))&0xFF;
+		}
+
+		@Override
+		public int length(){
+			return length;
+		}
+
+		@Override
+		public char charAt(int index){
+			int c=byteAt(index);
+			return c<0x80?(char)c:NON_ASCII;
+		}
+
+		@Override
+		public CharSequence subSequence(int start,int end){
+			if(start<0||start>end||end>length){
+				throw new IndexOutOfBoundsException("start:"+start+",end:"+end+",length:"+length);
+			}
+			return new Bytes(array,buffer,offset+start,end-start);
+		}
+
+		@Override
+		public String toString(){
+			byte[] b=new byte[length];
+			for(int i=0;i<length;i++){
+				b[i]=(byte)byteAt(i);
+			}
+			return new String(b,StandardCharsets.UTF_8);
+		}
+	}
+}
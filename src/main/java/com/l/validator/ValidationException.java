@@ -8,6 +8,9 @@ public class ValidationException extends RuntimeException{
 	private static final long serialVersionUID = 1L;
 	private int co;
 	private String ex;
+	private String template;
+	private Object[] args;
+	private String path;
 	
 	public int getCo() {
 		return co;
@@ -25,14 +28,61 @@ public class ValidationException extends RuntimeException{
 		this.ex = ex;
 	}
 	
+	/**
+	 * 功能描述：使用模板构造异常信息时的原始模板,否则为null
+	 */
+	public String getTemplate() {
+		return template;
+	}
+	
+	/**
+	 * 功能描述：使用模板构造异常信息时的参数(不可序列化的参数已转为字符串),否则为null
+	 */
+	public Object[] getArgs() {
+		return args==null?null:args.clone();
+	}
+	
+	/**
+	 * 功能描述：记录模板与参数,仅在异常创建后、抛出前调用
+	 */
+	ValidationException template(String template, Object[] args) {
+		this.template = template;
+		this.args = args;
+		return this;
+	}
+	
+	/**
+	 * 功能描述：{@link DeepValidator}校验失败时失败值在对象图中的路径(如items[3].price),否则为null
+	 */
+	public String getPath() {
+		return path;
+	}
+	
+	/**
+	 * 功能描述：记录失败路径,仅在异常创建后、抛出前调用
+	 */
+	ValidationException path(String path) {
+		this.path = path;
+		return this;
+	}
+	
 	public ValidationException(int co, String ex) {
 		super();
 		this.co = co;
 		this.ex = ex;
 	}
 	
+	/**
+	 * 功能描述：供子类控制是否填充堆栈,不填充时同时关闭suppressed异常记录
+	 */
+	protected ValidationException(int co, String ex, boolean writableStackTrace) {
+		super(null, null, writableStackTrace, writableStackTrace);
+		this.co = co;
+		this.ex = ex;
+	}
+	
 	@Override
 	public String toString() {
-		return this.ex+"("+this.co+")";
+		return path==null?this.ex+"("+this.co+")":path+":"+this.ex+"("+this.co+")";
 	}
 }
\ No newline at end of file
@@ -0,0 +1,338 @@
+package com.l.validator;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * 功能描述：{@link Validator}的运行统计,默认关闭,关闭时每次校验只多一次volatile读<br/>
+ * 			开启后按{@link CheckType}与异常编号统计校验次数与失败次数,并按采样间隔记录耗时的log2直方图;
+ * 			计数器均为LongAdder,多线程下无竞争
+ * <pre>
+ * eg:
+ * ValidationMetrics.enable();
+ * ValidationMetrics.registerMBean();//通过jconsole等查看com.l.validator:type=ValidationMetrics
+ * ValidationMetrics.failures(CheckType.MOBILE_PHONE_NUMBER);
+ * </pre>
+ * @author: l.sl
+ */
+public final class ValidationMetrics{
+	/** start()的返回值:未开启,不记录 */
+	final static long DISABLED=0L;
+	/** start()的返回值:已开启,本次不采样耗时 */
+	private final static long NOT_SAMPLED=Long.MIN_VALUE;
+	private final static int BUCKETS=64,CODE_TABLE_SIZE=1024,DEFAULT_SAMPLE_INTERVAL=64;
+	private final static String OBJECT_NAME="com.l.validator:type=ValidationMetrics";
+	private static volatile boolean enabled;
+	private static volatile int samplemask=DEFAULT_SAMPLE_INTERVAL-1;
+	private final static TypeCounter[] TYPES=new TypeCounter[CheckType.values().length];
+	/** 常用的[0,1024)编号直接按下标定位,避免装箱 */
+	private final static AtomicReferenceArray<CodeCounter> CODES=new AtomicReferenceArray<>(CODE_TABLE_SIZE);
+	private final static ConcurrentHashMap<Integer,CodeCounter> OTHER_CODES=new ConcurrentHashMap<>();
+	private static ObjectName registered;
+
+	static{
+		for(int i=0;i<TYPES.length;i++){
+			TYPES[i]=new TypeCounter();
+		}
+	}
+
+	private ValidationMetrics(){
+	}
+
+	/*   switch part   */
+	public final static void enable(){
+		enabled=true;
+	}
+
+	public final static void disable(){
+		enabled=false;
+	}
+
+	public final static boolean isEnabled(){
+		return enabled;
+	}
+
+	/**
+	 * 功能描述：设置耗时采样间隔,平均每interval次校验采样一次,interval会向上取整为2的幂
+	 */
+	public final static void setSampleInterval(int interval){
+		if(interval<=0){
+			throw new IllegalArgumentException("sample interval must be positive:"+interval);
+		}
+		samplemask=interval==1?0:Integer.highestOneBit(interval-1)*2-1;
+	}
+
+	public final static int getSampleInterval(){
+		return samplemask+1;
+	}
+
+	/**
+	 * 功能描述：将统计注册到平台MBeanServer,重复调用无效果
+	 */
+	public final static synchronized void registerMBean(){
+		if(registered!=null){
+			return;
+		}
+		try{
+			ObjectName name=new ObjectName(OBJECT_NAME);
+			MBeanServer server=ManagementFactory.getPlatformMBeanServer();
+			try{
+				server.registerMBean(new Bean(),name);
+			}catch(InstanceAlreadyExistsException e){
+				//其他类加载器中的副本已注册
+			}
+			registered=name;
+		}catch(JMException e){
+			throw new IllegalStateException("failed to register "+OBJECT_NAME,e);
+		}
+	}
+
+	public final static synchronized void unregisterMBean(){
+		if(registered==null){
+			return;
+		}
+		try{
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(registered);
+		}catch(JMException e){
+			//已被外部注销
+		}
+		registered=null;
+	}
+
+	/*   record part   */
+	/**
+	 * 功能描述：校验开始前调用,必须作为校验表达式之前的实参求值,返回值原样交给{@link #record(CheckType, long, boolean, int)}
+	 */
+	static long start(){
+		if(!enabled){
+			return DISABLED;
+		}
+		if((ThreadLocalRandom.current().nextInt()&samplemask)!=0){
+			return NOT_SAMPLED;
+		}
+		long now=System.nanoTime();
+		return now==DISABLED||now==NOT_SAMPLED?now+1:now;
+	}
+
+	static void record(CheckType type,long start,boolean pass,int co){
+		long elapsed=start==NOT_SAMPLED?-1:System.nanoTime()-start;
+		TypeCounter t=TYPES[type.ordinal()];
+		t.evaluations.increment();
+		if(!pass){
+			t.failures.increment();
+		}
+		if(elapsed>=0){
+			t.histogram[BUCKETS-Long.numberOfLeadingZeros(elapsed)].increment();
+			t.latency.add(elapsed);
+			t.samples.increment();
+		}
+		CodeCounter c=code(co);
+		c.evaluations.increment();
+		if(!pass){
+			c.failures.increment();
+		}
+	}
+
+	private static CodeCounter code(int co){
+		if(co>=0&&co<CODE_TABLE_SIZE){
+			CodeCounter c=CODES.get(co);
+			if(c==null){
+				CODES.compareAndSet(co,null,new CodeCounter());
+				c=CODES.get(co);
+			}
+			return c;
+		}
+		return OTHER_CODES.computeIfAbsent(co,k->new CodeCounter());
+	}
+
+	/*   snapshot part   */
+	public final static long evaluations(CheckType type){
+		return TYPES[type.ordinal()].evaluations.sum();
+	}
+
+	public final static long failures(CheckType type){
+		return TYPES[type.ordinal()].failures.sum();
+	}
+
+	/**
+	 * 功能描述：指定异常编号的校验次数,编号为校验时生效的co(含默认编号)
+	 */
+	public final static long evaluations(int co){
+		CodeCounter c=find(co);
+		return c==null?0:c.evaluations.sum();
+	}
+
+	public final static long failures(int co){
+		CodeCounter c=find(co);
+		return c==null?0:c.failures.sum();
+	}
+
+	/**
+	 * 功能描述：采样耗时的平均值(纳秒),无采样时返回NaN
+	 */
+	public final static double meanLatencyNanos(CheckType type){
+		TypeCounter t=TYPES[type.ordinal()];
+		long samples=t.samples.sum();
+		return samples==0?Double.NaN:(double)t.latency.sum()/samples;
+	}
+
+	/**
+	 * 功能描述：采样耗时的log2直方图,第i个元素为耗时在[2^(i-1),2^i)纳秒内的采样数(第0个为0纳秒)
+	 */
+	public final static long[] latencyHistogram(CheckType type){
+		LongAdder[] histogram=TYPES[type.ordinal()].histogram;
+		long[] counts=new long[BUCKETS];
+		for(int i=0;i<BUCKETS;i++){
+			counts[i]=histogram[i].sum();
+		}
+		return counts;
+	}
+
+	/**
+	 * 功能描述：清空全部统计,开关与采样间隔不变
+	 */
+	public final static void reset(){
+		for(TypeCounter t : TYPES){
+			t.reset();
+		}
+		for(int i=0;i<CODE_TABLE_SIZE;i++){
+			CODES.set(i,null);
+		}
+		OTHER_CODES.clear();
+	}
+
+	private static CodeCounter find(int co){
+		return co>=0&&co<CODE_TABLE_SIZE?CODES.get(co):OTHER_CODES.get(co);
+	}
+
+	private static Map<String,Long> byCode(boolean failures){
+		Map<Integer,Long> sorted=new TreeMap<>();
+		for(int i=0;i<CODE_TABLE_SIZE;i++){
+			CodeCounter c=CODES.get(i);
+			if(c!=null){
+				sorted.put(i,(failures?c.failures:c.evaluations).sum());
+			}
+		}
+		for(Map.Entry<Integer,CodeCounter> e : OTHER_CODES.entrySet()){
+			sorted.put(e.getKey(),(failures?e.getValue().failures:e.getValue().evaluations).sum());
+		}
+		Map<String,Long> result=new LinkedHashMap<>();
+		for(Map.Entry<Integer,Long> e : sorted.entrySet()){
+			result.put(String.valueOf(e.getKey()),e.getValue());
+		}
+		return result;
+	}
+
+	private final static class TypeCounter{
+		final LongAdder evaluations=new LongAdder(),failures=new LongAdder(),latency=new LongAdder(),samples=new LongAdder();
+		final LongAdder[] histogram=new LongAdder[BUCKETS];
+
+		TypeCounter(){
+			for(int i=0;i<BUCKETS;i++){
+				histogram[i]=new LongAdder();
+			}
+		}
+
+		void reset(){
+			evaluations.reset();
+			failures.reset();
+			latency.reset();
+			samples.reset();
+			for(LongAdder h : histogram){
+				h.reset();
+			}
+		}
+	}
+
+	private final static class CodeCounter{
+		final LongAdder evaluations=new LongAdder(),failures=new LongAdder();
+	}
+
+	/*   jmx part   */
+	private final static class Bean implements ValidationMetricsMXBean{
+		@Override
+		public boolean isEnabled(){
+			return ValidationMetrics.isEnabled();
+		}
+
+		@Override
+		public void setEnabled(boolean enabled){
+			if(enabled){
+				enable();
+			}else{
+				disable();
+			}
+		}
+
+		@Override
+		public int getSampleInterval(){
+			return ValidationMetrics.getSampleInterval();
+		}
+
+		@Override
+		public void setSampleInterval(int interval){
+			ValidationMetrics.setSampleInterval(interval);
+		}
+
+		@Override
+		public Map<String,Long> getEvaluations(){
+			Map<String,Long> result=new LinkedHashMap<>();
+			for(CheckType type : CheckType.values()){
+				result.put(type.name(),evaluations(type));
+			}
+			return result;
+		}
+
+		@Override
+		public Map<String,Long> getFailures(){
+			Map<String,Long> result=new LinkedHashMap<>();
+			for(CheckType type : CheckType.values()){
+				result.put(type.name(),failures(type));
+			}
+			return result;
+		}
+
+		@Override
+		public Map<String,Long> getEvaluationsByCode(){
+			return byCode(false);
+		}
+
+		@Override
+		public Map<String,Long> getFailuresByCode(){
+			return byCode(true);
+		}
+
+		@Override
+		public Map<String,Double> getMeanLatencyNanos(){
+			Map<String,Double> result=new LinkedHashMap<>();
+			for(CheckType type : CheckType.values()){
+				double mean=meanLatencyNanos(type);
+				if(!Double.isNaN(mean)){
+					result.put(type.name(),mean);
+				}
+			}
+			return result;
+		}
+
+		@Override
+		public long[] latencyHistogram(String checkType){
+			return ValidationMetrics.latencyHistogram(CheckType.valueOf(checkType));
+		}
+
+		@Override
+		public void reset(){
+			ValidationMetrics.reset();
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package com.l.validator;
+
+import java.util.Map;
+
+/**
+ * 功能描述：{@link ValidationMetrics}的JMX视图,注册名为com.l.validator:type=ValidationMetrics,键为{@link CheckType}名称或异常编号
+ * @author: l.sl
+ */
+public interface ValidationMetricsMXBean{
+	boolean isEnabled();
+
+	void setEnabled(boolean enabled);
+
+	int getSampleInterval();
+
+	void setSampleInterval(int interval);
+
+	Map<String,Long> getEvaluations();
+
+	Map<String,Long> getFailures();
+
+	Map<String,Long> getEvaluationsByCode();
+
+	Map<String,Long> getFailuresByCode();
+
+	Map<String,Double> getMeanLatencyNanos();
+
+	/**
+	 * 功能描述：指定种类的延迟直方图,第i个元素为耗时在[2^(i-1),2^i)纳秒内的采样数
+	 */
+	long[] latencyHistogram(String checkType);
+
+	void reset();
+}
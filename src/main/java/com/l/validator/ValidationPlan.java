@@ -0,0 +1,424 @@
+package com.l.validator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * 功能描述：预先构建、不可变的校验规则集合,构建完成后可被多个线程共享,对每个输入重复执行而无需再创建{@link Validator}
+ * <pre>
+ * eg:
+ * ValidationPlan&lt;User&gt; plan=ValidationPlan.&lt;User&gt;builder(505,"data validation failed")
+ * 	.notBlank(User::getName)
+ * 	.inRange(1,64,User::getName,501,"name length error")
+ * 	.mobilePhoneNumber(User::getPhone)
+ * 	.build();
+ * plan.validate(user);//不满足时抛出第一个失败规则的ValidationException
+ * </pre>
+ * 每条规则的判定与{@link Validator}中同名be*方法一致;未单独指定co/ex的规则使用builder上的默认值
+ * @author: l.sl
+ */
+public final class ValidationPlan<T>{
+	private final Rule<? super T>[] rules;
+	private final ThrowMode throwmode;
+	/** 自适应执行顺序,未启用时为null */
+	private final AdaptiveOrder<T> adaptive;
+
+	private ValidationPlan(Rule<? super T>[] rules,ThrowMode throwmode,AdaptiveOrder<T> adaptive){
+		this.rules=rules;
+		this.throwmode=throwmode;
+		this.adaptive=adaptive;
+	}
+
+	/**
+	 * 功能描述：获取默认错误编号、默认错误信息的构建器
+	 */
+	public final static <T> Builder<T> builder(){
+		return new Builder<>(Validator.DCO,Validator.DEX);
+	}
+
+	/**
+	 * 功能描述：获取指定默认错误编号、默认错误信息的构建器
+	 */
+	public final static <T> Builder<T> builder(int co,String ex){
+		return new Builder<>(co,ex);
+	}
+
+	/**
+	 * 功能描述：依次执行全部规则,遇到第一个失败的规则即抛出异常
+	 */
+	public void validate(T target){
+		if(adaptive!=null){
+			int failure=adaptive.firstFailure(target);
+			if(failure!=-1){
+				throw ExceptionCache.create(throwmode,co(failure),ex(failure));
+			}
+			return;
+		}
+		for(Rule<? super T> rule:rules){
+			int status=rule.test(target);
+			if(status!=Checks.PASS){
+				throw exception(rule,status);
+			}
+		}
+	}
+
+	/**
+	 * 功能描述：执行全部规则并将失败记录到给定结果中,不抛出异常;始终按声明顺序执行
+	 */
+	public ValidationResult validate(T target,ValidationResult result){
+		for(Rule<? super T> rule:rules){
+			int status=rule.test(target);
+			if(status==Checks.UNKNOWN_TYPE){
+				result.add(Validator.UNKOWN_TYPE_CO,Validator.UNKNOWN_TYPE_EX);
+			}else if(status!=Checks.PASS){
+				result.add(rule.co,rule.ex);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 功能描述：是否全部规则都满足
+	 */
+	public boolean test(T target){
+		if(adaptive!=null){
+			return adaptive.test(target);
+		}
+		for(Rule<? super T> rule:rules){
+			if(rule.test(target)!=Checks.PASS){
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public int size(){
+		return rules.length;
+	}
+
+	/**
+	 * 功能描述：当前的执行顺序(规则的声明下标),未启用{@link Builder#adaptive()}时即声明顺序,便于排查
+	 */
+	public int[] order(){
+		if(adaptive!=null){
+			return adaptive.order();
+		}
+		int[] order=new int[rules.length];
+		for(int i=0;i<order.length;i++){
+			order[i]=i;
+		}
+		return order;
+	}
+
+	/**
+	 * 功能描述：返回第一个失败规则的位置,全部通过返回-1,未知类型返回-(位置+2),供批量校验只记录位置而不创建异常
+	 */
+	int firstFailure(T target){
+		if(adaptive!=null){
+			return adaptive.firstFailure(target);
+		}
+		for(int i=0;i<rules.length;i++){
+			int status=rules[i].test(target);
+			if(status==Checks.UNKNOWN_TYPE){
+				return -(i+2);
+			}else if(status!=Checks.PASS){
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	int co(int failure){
+		return failure<-1?Validator.UNKOWN_TYPE_CO:rules[failure].co;
+	}
+
+	String ex(int failure){
+		return failure<-1?Validator.UNKNOWN_TYPE_EX:rules[failure].ex;
+	}
+
+	private ValidationException exception(Rule<? super T> rule,int status){
+		if(status==Checks.UNKNOWN_TYPE){
+			return ExceptionCache.create(throwmode,Validator.UNKOWN_TYPE_CO,Validator.UNKNOWN_TYPE_EX);
+		}
+		return ExceptionCache.create(throwmode,rule.co,rule.ex);
+	}
+
+	/*   rule part   */
+	/**
+	 * 功能描述：单条规则,返回{@link Checks}中的判定结果
+	 */
+	abstract static class Rule<T>{
+		final int co;
+		final String ex;
+
+		Rule(int co,String ex){
+			this.co=co;
+			this.ex=ex;
+		}
+
+		abstract int test(T target);
+
+		/**
+		 * 功能描述：是否可能返回{@link Checks#UNKNOWN_TYPE},自适应顺序据此判断能否跳过同一异常的规则
+		 */
+		boolean mayBeUnknownType(){
+			return true;
+		}
+	}
+
+	/**
+	 * 功能描述：{@link ValidationPlan}构建器,非线程安全,build之后可继续追加规则并构建新的计划
+	 */
+	public final static class Builder<T>{
+		private final List<Rule<? super T>> rules=new ArrayList<>();
+		private final int co;
+		private final String ex;
+		private ThrowMode throwmode=Validator.getDefaultThrowMode();
+		private boolean adaptive;
+		private final List<Integer> barriers=new ArrayList<>();
+
+		private Builder(int co,String ex){
+			this.co=co;
+			this.ex=ex;
+		}
+
+		/**
+		 * 功能描述：设置计划失败时异常的构造方式
+		 */
+		public Builder<T> throwMode(ThrowMode mode){
+			this.throwmode=mode==null?ThrowMode.STACK_TRACE:mode;
+			return this;
+		}
+
+		/**
+		 * 功能描述：启用自适应执行顺序,按运行时采样的耗时与失败率把廉价且常失败的规则提前,报告的异常与声明顺序一致,见{@link AdaptiveOrder};<br/>
+		 * 			规则依赖前面规则的结果(如beTrue中直接使用notNull检查过的字段)时,需在两者之间调用{@link #barrier()}
+		 */
+		public Builder<T> adaptive(){
+			this.adaptive=true;
+			return this;
+		}
+
+		/**
+		 * 功能描述：自适应顺序的分段点,之前声明的规则全部通过后才执行之后的规则;未启用自适应时无影响
+		 */
+		public Builder<T> barrier(){
+			barriers.add(rules.size());
+			return this;
+		}
+
+		private Builder<T> add(Rule<? super T> rule){
+			rules.add(rule);
+			return this;
+		}
+
+		/*   be true part   */
+		public Builder<T> beTrue(Predicate<? super T> exp,int co,String ex){
+			return add(new Rule<T>(co,ex){
+				int test(T target){
+					return Checks.of(exp.test(target));
+				}
+				boolean mayBeUnknownType(){
+					return false;
+				}
+			});
+		}
+		public Builder<T> beTrue(Predicate<? super T> exp){
+			return beTrue(exp,co,ex);
+		}
+		public Builder<T> beFalse(Predicate<? super T> exp,int co,String ex){
+			return beTrue(exp.negate(),co,ex);
+		}
+		public Builder<T> beFalse(Predicate<? super T> exp){
+			return beFalse(exp,co,ex);
+		}
+
+		/*   null part   */
+		public <V> Builder<T> isNull(Function<? super T,V> getter,int co,String ex){
+			return beTrue(t->getter.apply(t)==null,co,ex);
+		}
+		public <V> Builder<T> isNull(Function<? super T,V> getter){
+			return isNull(getter,co,ex);
+		}
+		public <V> Builder<T> notNull(Function<? super T,V> getter,int co,String ex){
+			return beTrue(t->getter.apply(t)!=null,co,ex);
+		}
+		public <V> Builder<T> notNull(Function<? super T,V> getter){
+			return notNull(getter,co,ex);
+		}
+
+		/*   blank part   */
+		public <V> Builder<T> notBlank(Function<? super T,V> getter,int co,String ex){
+			return add(new Rule<T>(co,ex){
+				int test(T target){
+					return Checks.notBlank(getter.apply(target));
+				}
+			});
+		}
+		public <V> Builder<T> notBlank(Function<? super T,V> getter){
+			return notBlank(getter,co,ex);
+		}
+		public <V> Builder<T> blank(Function<? super T,V> getter,int co,String ex){
+			return add(new Rule<T>(co,ex){
+				int test(T target){
+					return Checks.blank(getter.apply(target));
+				}
+			});
+		}
+		public <V> Builder<T> blank(Function<? super T,V> getter){
+			return blank(getter,co,ex);
+		}
+
+		/*   range part   */
+		public <V> Builder<T> inRange(Number begin,Number end,Function<? super T,V> getter,boolean beginInclude,boolean endInclude,int co,String ex){
+			return add(new Rule<T>(co,ex){
+				int test(T target){
+					return Checks.inRange(begin,end,getter.apply(target),beginInclude,endInclude);
+				}
+			});
+		}
+		public <V> Builder<T> inRange(Number begin,Number end,Function<? super T,V> getter,boolean beginInclude,boolean endInclude){
+			return inRange(begin,end,getter,beginInclude,endInclude,co,ex);
+		}
+		public <V> Builder<T> inRange(Number begin,Number end,Function<? super T,V> getter,int co,String ex){
+			return inRange(begin,end,getter,false,false,co,ex);
+		}
+		public <V> Builder<T> inRange(Number begin,Number end,Function<? super T,V> getter){
+			return inRange(begin,end,getter,false,false,co,ex);
+		}
+		public <V> Builder<T> notInRange(Number begin,Number end,Function<? super T,V> getter,boolean beginInclude,boolean endInclude,int co,String ex){
+			return add(new Rule<T>(co,ex){
+				int test(T target){
+					return Checks.notInRange(begin,end,getter.apply(target),beginInclude,endInclude);
+				}
+			});
+		}
+		public <V> Builder<T> notInRange(Number begin,Number end,Function<? super T,V> getter,boolean beginInclude,boolean endInclude){
+			return notInRange(begin,end,getter,beginInclude,endInclude,co,ex);
+		}
+		public <V> Builder<T> notInRange(Number begin,Number end,Function<? super T,V> getter,int co,String ex){
+			return notInRange(begin,end,getter,false,false,co,ex);
+		}
+		public <V> Builder<T> notInRange(Number begin,Number end,Function<? super T,V> getter){
+			return notInRange(begin,end,getter,false,false,co,ex);
+		}
+
+		/*   compare part   */
+		public Builder<T> lessThan(Function<? super T,? extends Number> getter,Number target,boolean targetInclude,int co,String ex){
+			return beTrue(t->Checks.lessThan(getter.apply(t),target,targetInclude),co,ex);
+		}
+		public Builder<T> lessThan(Function<? super T,? extends Number> getter,Number target,boolean targetInclude){
+			return lessThan(getter,target,targetInclude,co,ex);
+		}
+		public Builder<T> lessThan(Function<? super T,? extends Number> getter,Number target){
+			return lessThan(getter,target,false,co,ex);
+		}
+		public Builder<T> greaterThan(Function<? super T,? extends Number> getter,Number target,boolean targetInclude,int co,String ex){
+			return beTrue(t->Checks.greaterThan(getter.apply(t),target,targetInclude),co,ex);
+		}
+		public Builder<T> greaterThan(Function<? super T,? extends Number> getter,Number target,boolean targetInclude){
+			return greaterThan(getter,target,targetInclude,co,ex);
+		}
+		public Builder<T> greaterThan(Function<? super T,? extends Number> getter,Number target){
+			return greaterThan(getter,target,false,co,ex);
+		}
+
+		/*   in part   */
+		public <V> Builder<T> in(Function<? super T,V> getter,Object[] target,int co,String ex){
+			Object[] candidates=target.clone();
+			return beTrue(t->Checks.in(getter.apply(t),candidates),co,ex);
+		}
+		public <V> Builder<T> in(Function<? super T,V> getter,Object ... target){
+			return in(getter,target,co,ex);
+		}
+		public <V> Builder<T> notIn(Function<? super T,V> getter,Object[] target,int co,String ex){
+			Object[] candidates=target.clone();
+			return beTrue(t->Checks.notIn(getter.apply(t),candidates),co,ex);
+		}
+		public <V> Builder<T> notIn(Function<? super T,V> getter,Object ... target){
+			return notIn(getter,target,co,ex);
+		}
+		public <V> Builder<T> in(Function<? super T,V> getter,Set<?> target,int co,String ex){
+			return beTrue(t->Checks.in(getter.apply(t),target),co,ex);
+		}
+		public <V> Builder<T> in(Function<? super T,V> getter,Set<?> target){
+			return in(getter,target,co,ex);
+		}
+		public <V> Builder<T> notIn(Function<? super T,V> getter,Set<?> target,int co,String ex){
+			return beTrue(t->Checks.notIn(getter.apply(t),target),co,ex);
+		}
+		public <V> Builder<T> notIn(Function<? super T,V> getter,Set<?> target){
+			return notIn(getter,target,co,ex);
+		}
+
+		/*   contains part   */
+		public <V> Builder<T> contains(Object o,Function<? super T,V> getter,int co,String ex){
+			return add(new Rule<T>(co,ex){
+				int test(T target){
+					return Checks.contains(o,getter.apply(target));
+				}
+			});
+		}
+		public <V> Builder<T> contains(Object o,Function<? super T,V> getter){
+			return contains(o,getter,co,ex);
+		}
+		public <V> Builder<T> notContains(Object o,Function<? super T,V> getter,int co,String ex){
+			return add(new Rule<T>(co,ex){
+				int test(T target){
+					return Checks.notContains(o,getter.apply(target));
+				}
+			});
+		}
+		public <V> Builder<T> notContains(Object o,Function<? super T,V> getter){
+			return notContains(o,getter,co,ex);
+		}
+
+		/*   number part   */
+		public <V> Builder<T> numbers(Function<? super T,V> getter,int co,String ex){
+			return beTrue(t->Checks.numbers(getter.apply(t)),co,ex);
+		}
+		public <V> Builder<T> numbers(Function<? super T,V> getter){
+			return numbers(getter,co,ex);
+		}
+
+		/*   regexp part   */
+		public Builder<T> regExp(Function<? super T,String> getter,Pattern pattern,int co,String ex){
+			RegExpMatcher matcher=RegExpMatcher.of(pattern);
+			return beTrue(t->Checks.matches(getter.apply(t),matcher),co,ex);
+		}
+		public Builder<T> regExp(Function<? super T,String> getter,Pattern pattern){
+			return regExp(getter,pattern,co,ex);
+		}
+		public Builder<T> regExp(Function<? super T,String> getter,String regExp,int co,String ex){
+			return regExp(getter,Pattern.compile(regExp),co,ex);
+		}
+		public Builder<T> regExp(Function<? super T,String> getter,String regExp){
+			return regExp(getter,regExp,co,ex);
+		}
+		public Builder<T> mobilePhoneNumber(Function<? super T,String> getter,int co,String ex){
+			return beTrue(t->Checks.mobilePhoneNumber(getter.apply(t)),co,ex);
+		}
+		public Builder<T> mobilePhoneNumber(Function<? super T,String> getter){
+			return mobilePhoneNumber(getter,co,ex);
+		}
+		public Builder<T> phoneNumber(Function<? super T,String> getter,int co,String ex){
+			return beTrue(t->Checks.phoneNumber(getter.apply(t)),co,ex);
+		}
+		public Builder<T> phoneNumber(Function<? super T,String> getter){
+			return phoneNumber(getter,co,ex);
+		}
+
+		/**
+		 * 功能描述：构建不可变的校验计划
+		 */
+		@SuppressWarnings({"unchecked","rawtypes"})
+		public ValidationPlan<T> build(){
+			Rule<? super T>[] array=rules.toArray(new Rule[0]);
+			return new ValidationPlan<>(array,throwmode,adaptive?new AdaptiveOrder<>(array,barriers):null);
+		}
+	}
+}
@@ -0,0 +1,196 @@
+package com.l.validator;
+
+import java.util.Arrays;
+
+/**
+ * 功能描述：收集模式下的校验结果,按失败顺序紧凑地保存(co,ex),可通过{@link #clear()}清空后重复使用
+ * @author: l.sl
+ */
+public final class ValidationResult{
+	private final static int DEFAULT_CAPACITY=8;
+	private int[] cos;
+	private String[] exs;
+	/** 仅在出现模板信息时分配 */
+	private String[] templates;
+	private Object[][] args;
+	/** 仅在出现失败路径({@link DeepValidator})时分配 */
+	private String[] paths;
+	private int size;
+
+	public ValidationResult(){
+		this(DEFAULT_CAPACITY);
+	}
+
+	public ValidationResult(int capacity){
+		capacity=Math.max(capacity,1);
+		this.cos=new int[capacity];
+		this.exs=new String[capacity];
+	}
+
+	void add(int co,String ex){
+		add(co,ex,null,null);
+	}
+
+	void add(int co,String ex,String template,Object[] args){
+		if(size==cos.length){
+			int capacity=size<<1;
+			cos=Arrays.copyOf(cos,capacity);
+			exs=Arrays.copyOf(exs,capacity);
+			if(templates!=null){
+				templates=Arrays.copyOf(templates,capacity);
+				this.args=Arrays.copyOf(this.args,capacity);
+			}
+			if(paths!=null){
+				paths=Arrays.copyOf(paths,capacity);
+			}
+		}
+		if(template!=null&&templates==null){
+			templates=new String[cos.length];
+			this.args=new Object[cos.length][];
+		}
+		cos[size]=co;
+		exs[size]=ex;
+		if(templates!=null){
+			templates[size]=template;
+			this.args[size]=args;
+		}
+		size++;
+	}
+
+	/**
+	 * 功能描述：为from及之后的失败记录路径
+	 */
+	void path(int from,String path){
+		if(paths==null){
+			paths=new String[cos.length];
+		}
+		Arrays.fill(paths,from,size,path);
+	}
+
+	/**
+	 * 功能描述：按顺序追加另一结果中的全部失败
+	 */
+	ValidationResult append(ValidationResult other){
+		for(int i=0;i<other.size;i++){
+			add(other.cos[i],other.exs[i],other.templates==null?null:other.templates[i],other.templates==null?null:other.args[i]);
+			if(other.paths!=null&&other.paths[i]!=null){
+				path(size-1,other.paths[i]);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * 功能描述：是否全部校验通过
+	 */
+	public boolean isValid(){
+		return size==0;
+	}
+
+	/**
+	 * 功能描述：失败的校验数量
+	 */
+	public int size(){
+		return size;
+	}
+
+	/**
+	 * 功能描述：第index个失败的异常编号
+	 */
+	public int getCo(int index){
+		checkIndex(index);
+		return cos[index];
+	}
+
+	/**
+	 * 功能描述：第index个失败的异常信息
+	 */
+	public String getEx(int index){
+		checkIndex(index);
+		return exs[index];
+	}
+
+	/**
+	 * 功能描述：第index个失败的信息模板,未使用模板时为null
+	 */
+	public String getTemplate(int index){
+		checkIndex(index);
+		return templates==null?null:templates[index];
+	}
+
+	/**
+	 * 功能描述：第index个失败的模板参数,未使用模板时为null
+	 */
+	public Object[] getArgs(int index){
+		checkIndex(index);
+		return templates==null||args[index]==null?null:args[index].clone();
+	}
+
+	/**
+	 * 功能描述：第index个失败在对象图中的路径(如items[3].price),非{@link DeepValidator}产生的失败为null
+	 */
+	public String getPath(int index){
+		checkIndex(index);
+		return paths==null?null:paths[index];
+	}
+
+	/**
+	 * 功能描述：以第一个失败构造异常,全部通过时返回null
+	 */
+	public ValidationException toException(){
+		if(size==0){
+			return null;
+		}
+		ValidationException e=new ValidationException(cos[0],exs[0]);
+		if(paths!=null){
+			e.path(paths[0]);
+		}
+		return templates==null||templates[0]==null?e:e.template(templates[0],args[0]);
+	}
+
+	/**
+	 * 功能描述：存在失败时抛出第一个失败对应的异常
+	 */
+	public void throwIfInvalid(){
+		if(size>0){
+			throw toException();
+		}
+	}
+
+	/**
+	 * 功能描述：清空结果以便复用,保留已分配的容量
+	 */
+	public ValidationResult clear(){
+		Arrays.fill(exs,0,size,null);
+		if(templates!=null){
+			Arrays.fill(templates,0,size,null);
+			Arrays.fill(args,0,size,null);
+		}
+		if(paths!=null){
+			Arrays.fill(paths,0,size,null);
+		}
+		size=0;
+		return this;
+	}
+
+	private void checkIndex(int index){
+		if(index<0||index>=size){
+			throw new IndexOutOfBoundsException("index:"+index+",size:"+size);
+		}
+	}
+
+	@Override
+	public String toString(){
+		StringBuilder sb=new StringBuilder("[");
+		for(int i=0;i<size;i++){
+			if(i>0){
+				sb.append(",");
+			}
+			if(paths!=null&&paths[i]!=null){
+				sb.append(paths[i]).append(":");
+			}
+			sb.append(exs[i]).append("(").append(cos[i]).append(")");
+		}
+		return sb.append("]").toString();
+	}
+}
@@ -1,9 +1,12 @@
 package com.l.validator;
 
-import java.math.BigDecimal;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.Map;
+import java.nio.ByteBuffer;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.IllegalFormatException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 /**
@@ -25,13 +28,31 @@ import java.util.regex.Pattern;
  * 	.beNotBlank(o)//这里抛出异常还是会报出506,data validation failed again
  * 
  * </pre>
+ * 带co/ex的校验都有失败时才生成信息的重载:<br/>
+ * 			(...,int co,String template,Object... args) 按模板格式化,beIn/beNotIn除外(会与beIn(Object,Object...)冲突);<br/>
+ * 			(...,int co,Supplier&lt;String&gt; ex) 只在co为Integer的校验上提供,co为int的校验(如beInRangeInt、beUtf8Digits)传入null作为ex时会与(int co,String ex)产生歧义
  */
-public class Validator{
-	private final static String DEX="数据校验失败!",UNKNOWN_TYPE_EX="给定类型未知";
-	private final static int DCO=0x0,UNKOWN_TYPE_CO=-0x1;
+public class Validator implements AutoCloseable{
+	final static String DEX="数据校验失败!",UNKNOWN_TYPE_EX="给定类型未知";
+	final static int DCO=0x0,UNKOWN_TYPE_CO=-0x1;
+	private final static PatternCache PATTERN_CACHE=new PatternCache(256);
+	private final static Object[] NO_ARGS={};
 	private String ex=DEX;
-	private Integer co=DCO;
+	private int co=DCO;
+	/** 延迟生成的异常信息,与exargs互斥;exargs不为null时ex为信息模板 */
+	private Supplier<String> exsupplier;
+	private Object[] exargs;
 	private boolean keeplastinform=false;
+	private static volatile ThrowMode defaultthrowmode=ThrowMode.STACK_TRACE;
+	/** 纯校验结果缓存,为null(默认)时不缓存 */
+	static volatile CheckResultCache resultcache;
+	private ThrowMode throwmode=defaultthrowmode;
+	private ValidationResult result;
+	/** 是否为{@link #lease()}借出的池化实例,close时据此归还 */
+	private boolean leased;
+	/** 池化实例的槽位,按线程id分段,不依赖ThreadLocal,虚拟线程下同样有效 */
+	private final static AtomicReferenceArray<Validator> POOL=new AtomicReferenceArray<>(poolSize());
+	private final static int POOL_PROBES=4;
 	
 	
 	/**
@@ -50,6 +71,37 @@ public class Validator{
 		return this;
 	}
 	
+	/**
+	 * 功能描述：设置当前校验器失败时异常的构造方式,见{@link ThrowMode}
+	 */
+	public Validator throwMode(ThrowMode mode){
+		this.throwmode=mode==null?ThrowMode.STACK_TRACE:mode;
+		return this;
+	}
+	
+	/**
+	 * 功能描述：设置后续通过get获取的校验器默认使用的异常构造方式,适用于只关心co/ex而不需要堆栈的服务
+	 */
+	public final static void setDefaultThrowMode(ThrowMode mode){
+		defaultthrowmode=mode==null?ThrowMode.STACK_TRACE:mode;
+	}
+	
+	public final static ThrowMode getDefaultThrowMode(){
+		return defaultthrowmode;
+	}
+	
+	/**
+	 * 功能描述：设置全局的正则校验结果缓存(beTrueRegExp及{@link ValidationPlan}、{@link RuleGraph}中的正则规则),传入null关闭;<br/>
+	 * 			适用于同一批编码反复出现、正则无法编译为DFA的服务,输入多为一次性值时缓存只增加开销
+	 */
+	public final static void setResultCache(CheckResultCache cache){
+		resultcache=cache;
+	}
+	
+	public final static CheckResultCache getResultCache(){
+		return resultcache;
+	}
+	
 	/*   constructor part   */
 	
 	private Validator(int co,String ex){
@@ -102,12 +154,137 @@ public class Validator{
 	}
 	
 	
+	/*   the lease part   */
+	
+	/**
+	 * 功能描述：从实例池借出默认错误编号、默认错误信息的校验器,状态与{@link #get()}完全一致,用完后通过close归还<br/>
+	 * 			池中无可用实例时新建,成功路径上不产生任何分配
+	 * <pre>
+	 * eg:
+	 * try(Validator v=Validator.lease(505,"data validation failed")){
+	 * 	v.beNotBlank(name).beInRangeInt(0,150,age);
+	 * }
+	 * </pre>
+	 * <b style="color:red">close后不可再使用该实例,也不可将其传递给其他线程继续使用</b>
+	 */
+	public final static Validator lease(){
+		return acquire().reset(DCO,DEX,false);
+	}
+	
+	/**
+	 * 功能描述：从实例池借出指定错误编号、指定错误信息的校验器,状态与{@link #get(int, String)}一致
+	 */
+	public final static Validator lease(int co,String ex){
+		return acquire().reset(co,ex,true);
+	}
+	
+	/**
+	 * 功能描述：从实例池借出指定错误编号的校验器,状态与{@link #get(int)}一致
+	 */
+	public final static Validator lease(int co){
+		return acquire().reset(co,DEX,true);
+	}
+	
+	/**
+	 * 功能描述：从实例池借出指定错误信息的校验器,状态与{@link #get(String)}一致
+	 */
+	public final static Validator lease(String ex){
+		return acquire().reset(DCO,ex,true);
+	}
+	
+	/**
+	 * 功能描述：归还通过lease借出的实例,重复close或对get获取的实例调用时无任何效果;<br/>
+	 * 			归还时即清除异常信息、延迟信息(Supplier/模板参数)与收集结果,池中的实例不再引用上一使用者的对象
+	 */
+	@Override
+	public void close(){
+		if(!this.leased){
+			return;
+		}
+		this.leased=false;
+		this.result=null;
+		restoreThrowInfo();
+		int slot=slot();
+		for(int i=0;i<POOL_PROBES;i++){
+			if(POOL.compareAndSet((slot+i)&(POOL.length()-1),null,this)){
+				return;
+			}
+		}
+	}
+	
+	private static Validator acquire(){
+		int slot=slot();
+		for(int i=0;i<POOL_PROBES;i++){
+			Validator v=POOL.getAndSet((slot+i)&(POOL.length()-1),null);
+			if(v!=null){
+				return v;
+			}
+		}
+		return new Validator();
+	}
+	
+	/**
+	 * 功能描述：借出时重置全部可变状态,保证不同使用者之间互不影响
+	 */
+	private Validator reset(int co,String ex,boolean keeplastinform){
+		this.co=co;
+		this.ex=ex;
+		this.exsupplier=null;
+		this.exargs=null;
+		this.keeplastinform=keeplastinform;
+		this.throwmode=defaultthrowmode;
+		this.result=null;
+		this.leased=true;
+		return this;
+	}
+	
+	private static int slot(){
+		long id=Thread.currentThread().getId();
+		return (int)(id^(id>>>16))*0x9E3779B9>>>16;
+	}
+	
+	private static int poolSize(){
+		int size=Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors(),1)*4-1)<<1;
+		return Math.min(Math.max(size,16),256);
+	}
+	
+	/**
+	 * 功能描述：获取收集模式的校验器,校验失败时不抛出异常,而是将(co,ex)依次记录,最后通过{@link #result()}获取
+	 */
+	public final static Validator collecting(){
+		return collecting(new ValidationResult());
+	}
+	
+	/**
+	 * 功能描述：获取收集模式的校验器,复用给定的结果缓冲区(会先被清空)
+	 */
+	public final static Validator collecting(ValidationResult result){
+		Validator v=new Validator();
+		v.result=result.clear();
+		return v;
+	}
+	
+	
 	/*   be true part   */
 	public Validator beTrue(boolean exp,Integer co,String ex){
-		rewriteThrowInfo(co, ex);
-		if(!exp){
-			doThrow();
-		}
+		check(CheckType.TRUE,ValidationMetrics.start(),exp,co,ex);
+		return this;
+	}
+	/**
+	 * 功能描述：异常信息只在校验失败时通过ex生成,成功时不产生任何拼接开销;其他校验的Supplier重载同理
+	 */
+	public Validator beTrue(boolean exp,int co,Supplier<String> ex){
+		check(CheckType.TRUE,ValidationMetrics.start(),exp,co,ex);
+		return this;
+	}
+	/**
+	 * 功能描述：异常信息只在校验失败时按String.format(template,args)生成,模板与参数保留在异常/结果中供国际化等二次处理;其他校验的模板重载同理
+	 * <pre>
+	 * eg:Validator.get().beTrue(age>=18,505,"age must be at least %d but was %d",18,age);
+	 * </pre>
+	 */
+	public Validator beTrue(boolean exp,int co,String template,Object... args){
+		check(CheckType.TRUE,ValidationMetrics.start(),exp,co,template,args);
 		return this;
 	}
 	public Validator beTrue(boolean exp){
@@ -123,16 +300,24 @@ public class Validator{
 	
 	/*   be false part   */
 	public Validator beFalse(boolean exp,Integer co,String ex){
-		return beTrue(!exp,co,ex);
+		return be(CheckType.FALSE,ValidationMetrics.start(),!exp,co,ex);
+	}
+	public Validator beFalse(boolean exp,int co,Supplier<String> ex){
+		check(CheckType.FALSE,ValidationMetrics.start(),!exp,co,ex);
+		return this;
+	}
+	public Validator beFalse(boolean exp,int co,String template,Object... args){
+		check(CheckType.FALSE,ValidationMetrics.start(),!exp,co,template,args);
+		return this;
 	}
 	public Validator beFalse(boolean exp){
-		return beTrue(!exp);
+		return be(CheckType.FALSE,ValidationMetrics.start(),!exp,null,null);
 	}
 	public Validator beFalse(boolean exp,String ex){
-		return beTrue(!exp,ex);
+		return be(CheckType.FALSE,ValidationMetrics.start(),!exp,null,ex);
 	}
 	public Validator beFalse(boolean exp,Integer co){
-		return beTrue(!exp,co);
+		return be(CheckType.FALSE,ValidationMetrics.start(),!exp,co,null);
 	}
 	
 	
@@ -145,7 +330,15 @@ public class Validator{
 	 * @param ex
 	 */
 	public Validator beNull(Object o,Integer co,String ex){
-		return beTrue(o==null, co, ex);
+		return be(CheckType.NULL,ValidationMetrics.start(),o==null,co,ex);
+	}
+	public Validator beNull(Object o,int co,Supplier<String> ex){
+		check(CheckType.NULL,ValidationMetrics.start(),o==null,co,ex);
+		return this;
+	}
+	public Validator beNull(Object o,int co,String template,Object... args){
+		check(CheckType.NULL,ValidationMetrics.start(),o==null,co,template,args);
+		return this;
 	}
 	public Validator beNull(Object o,Integer co){
 		return beNull(o,co,null);
@@ -167,7 +360,15 @@ public class Validator{
 	 * 2018年3月27日 下午4:40:17
 	 */
 	public Validator beNotNull(Object o,Integer co,String ex){
-		return beTrue(o!=null);
+		return be(CheckType.NOT_NULL,ValidationMetrics.start(),o!=null,null,null);
+	}
+	public Validator beNotNull(Object o,int co,Supplier<String> ex){
+		check(CheckType.NOT_NULL,ValidationMetrics.start(),o!=null,co,ex);
+		return this;
+	}
+	public Validator beNotNull(Object o,int co,String template,Object... args){
+		check(CheckType.NOT_NULL,ValidationMetrics.start(),o!=null,co,template,args);
+		return this;
 	}
 	public Validator beNotNull(Object o,Integer co){
 		return beNotNull(o,co,null);
@@ -185,7 +386,15 @@ public class Validator{
 	 * 功能描述：判断是否相等,如果不相等则抛出异常,都为null也会抛出异常,如果需要null做对比,可以使用{@link #beEqualNullable(Object, Object, Integer, String)}
 	 */
 	public Validator beEqual(Object o1,Object o2,Integer co,String ex){
-		return beTrue(o1!=null&&o2!=null&&o1.equals(o2),co,ex);
+		return be(CheckType.EQUAL,ValidationMetrics.start(),o1!=null&&o2!=null&&o1.equals(o2),co,ex);
+	}
+	public Validator beEqual(Object o1,Object o2,int co,Supplier<String> ex){
+		check(CheckType.EQUAL,ValidationMetrics.start(),o1!=null&&o2!=null&&o1.equals(o2),co,ex);
+		return this;
+	}
+	public Validator beEqual(Object o1,Object o2,int co,String template,Object... args){
+		check(CheckType.EQUAL,ValidationMetrics.start(),o1!=null&&o2!=null&&o1.equals(o2),co,template,args);
+		return this;
 	}
 	public Validator beEqual(Object o1,Object o2,Integer co){
 		return beEqual(o1, o2, co, null);
@@ -202,7 +411,15 @@ public class Validator{
 	 * 功能描述：判断是否相等,如果相等则抛出异常,都为null也会抛出异常,其中任意一个为null也会抛出异常,如果需要null做对比,可以使用{@link #beNotEqualNullable(Object, Object, Integer, String)}
 	 */
 	public Validator beNotEqual(Object o1,Object o2,Integer co,String ex){
-		return beTrue(o1==null?false:o2==null?false:!o1.equals(o2));
+		return be(CheckType.NOT_EQUAL,ValidationMetrics.start(),o1==null?false:o2==null?false:!o1.equals(o2),null,null);
+	}
+	public Validator beNotEqual(Object o1,Object o2,int co,Supplier<String> ex){
+		check(CheckType.NOT_EQUAL,ValidationMetrics.start(),o1==null?false:o2==null?false:!o1.equals(o2),co,ex);
+		return this;
+	}
+	public Validator beNotEqual(Object o1,Object o2,int co,String template,Object... args){
+		check(CheckType.NOT_EQUAL,ValidationMetrics.start(),o1==null?false:o2==null?false:!o1.equals(o2),co,template,args);
+		return this;
 	}
 	public Validator beNotEqual(Object o1,Object o2,Integer co){
 		return beNotEqual(o1, o2, co, null);
@@ -220,7 +437,15 @@ public class Validator{
 	 * 功能描述：判断是否相等,如果不相等则抛出异常,可以使用null做操作
 	 */
 	public Validator beEqualNullable(Object o1,Object o2,Integer co,String ex){
-		return beTrue(o1==null?o2==null?true:false:o2==null?false:o1.equals(o2));
+		return be(CheckType.EQUAL_NULLABLE,ValidationMetrics.start(),o1==null?o2==null?true:false:o2==null?false:o1.equals(o2),null,null);
+	}
+	public Validator beEqualNullable(Object o1,Object o2,int co,Supplier<String> ex){
+		check(CheckType.EQUAL_NULLABLE,ValidationMetrics.start(),o1==null?o2==null?true:false:o2==null?false:o1.equals(o2),co,ex);
+		return this;
+	}
+	public Validator beEqualNullable(Object o1,Object o2,int co,String template,Object... args){
+		check(CheckType.EQUAL_NULLABLE,ValidationMetrics.start(),o1==null?o2==null?true:false:o2==null?false:o1.equals(o2),co,template,args);
+		return this;
 	}
 	public Validator beEqualNullable(Object o1,Object o2,Integer co){
 		return beEqualNullable(o1, o2, co, null);
@@ -237,7 +462,15 @@ public class Validator{
 	 * 功能描述：判断是否相等,如果相等则抛出异常,可以使用null做对比 
 	 */
 	public Validator beNotEqualNullable(Object o1,Object o2,Integer co,String ex){
-		return beTrue(o1==null?o2==null?false:!o2.equals(o1):!o1.equals(o2));
+		return be(CheckType.NOT_EQUAL_NULLABLE,ValidationMetrics.start(),o1==null?o2==null?false:!o2.equals(o1):!o1.equals(o2),null,null);
+	}
+	public Validator beNotEqualNullable(Object o1,Object o2,int co,Supplier<String> ex){
+		check(CheckType.NOT_EQUAL_NULLABLE,ValidationMetrics.start(),o1==null?o2==null?false:!o2.equals(o1):!o1.equals(o2),co,ex);
+		return this;
+	}
+	public Validator beNotEqualNullable(Object o1,Object o2,int co,String template,Object... args){
+		check(CheckType.NOT_EQUAL_NULLABLE,ValidationMetrics.start(),o1==null?o2==null?false:!o2.equals(o1):!o1.equals(o2),co,template,args);
+		return this;
 	}
 	public Validator beNotEqualNullable(Object o1,Object o2,Integer co){
 		return beNotEqualNullable(o1, o2, co, null);
@@ -256,25 +489,21 @@ public class Validator{
 	 * 			集合类 !=null&&.size()>0<br/>
 	 * 			map类  !=null&&.size()>0<br/>
 	 * 			迭代器 !=null&&.hasNext()<br/>
+	 * 			Spliterator/Stream 带SIZED特征时按精确长度,否则最多读取一个元素<br/>
 	 * 			数字类型!=0<br/>
+	 * 			CharSequence/数组/Buffer 按长度(Buffer为剩余长度)判断<br/>
+	 * 			其他类型可通过{@link TypeAdapters#register(Class, TypeAdapter)}注册<br/>
 	 * 			<b style="color:red">不在上述类型中则直接抛异常</b>
 	 */
-	@SuppressWarnings("rawtypes")
 	public Validator beNotBlank(Object o,Integer co,String ex){
-		beTrue(o!=null, co, ex);
-		if(o instanceof String){
-			beTrue(((String) o).length()>0, co, ex);
-		}else if(o instanceof Collection){
-			beTrue(((Collection)o).size()>0, co, ex);
-		}else if(o instanceof Map){
-			beTrue(((Map) o).size()>0, co, ex);
-		}else if(o instanceof Iterator){
-			beTrue(((Iterator) o).hasNext(), co, ex);
-		}else if(o instanceof Number){
-			beTrue(((Number) o).doubleValue()>0, co, ex);
-		}else{
-			beTrue(false,UNKOWN_TYPE_CO,UNKNOWN_TYPE_EX);
-		}
+		return status(CheckType.NOT_BLANK,ValidationMetrics.start(),Checks.notBlank(o),co,ex);
+	}
+	public Validator beNotBlank(Object o,int co,Supplier<String> ex){
+		status(CheckType.NOT_BLANK,ValidationMetrics.start(),Checks.notBlank(o),co,ex);
+		return this;
+	}
+	public Validator beNotBlank(Object o,int co,String template,Object... args){
+		status(CheckType.NOT_BLANK,ValidationMetrics.start(),Checks.notBlank(o),co,template,args);
 		return this;
 	}
 	public Validator beNotBlank(Object o,Integer co){
@@ -294,25 +523,21 @@ public class Validator{
 	 * 			集合类 !=null&&.size()>0<br/>
 	 * 			map类  !=null&&.size()>0<br/>
 	 * 			迭代器 !=null&&.hasNext()<br/>
+	 * 			Spliterator/Stream 带SIZED特征时按精确长度,否则最多读取一个元素<br/>
 	 * 			数字类型==0<br/>
+	 * 			CharSequence/数组/Buffer 按长度(Buffer为剩余长度)判断<br/>
+	 * 			其他类型可通过{@link TypeAdapters#register(Class, TypeAdapter)}注册<br/>
 	 * 			<b style="color:red">不在上述类型中则直接抛异常</b>
 	 */
-	@SuppressWarnings("rawtypes")
 	public Validator beBlank(Object o,Integer co,String ex){
-		beTrue(o!=null, co, ex);
-		if(o instanceof String){
-			beTrue(((String) o).length()==0, co, ex);
-		}else if(o instanceof Collection){
-			beTrue(((Collection)o).size()==0, co, ex);
-		}else if(o instanceof Map){
-			beTrue(((Map) o).size()==0, co, ex);
-		}else if(o instanceof Iterator){
-			beTrue(!((Iterator) o).hasNext(), co, ex);
-		}else if(o instanceof Number){
-			beTrue(((Number) o).doubleValue()==0, co, ex);
-		}else{
-			beTrue(false,UNKOWN_TYPE_CO,UNKNOWN_TYPE_EX);
-		}
+		return status(CheckType.BLANK,ValidationMetrics.start(),Checks.blank(o),co,ex);
+	}
+	public Validator beBlank(Object o,int co,Supplier<String> ex){
+		status(CheckType.BLANK,ValidationMetrics.start(),Checks.blank(o),co,ex);
+		return this;
+	}
+	public Validator beBlank(Object o,int co,String template,Object... args){
+		status(CheckType.BLANK,ValidationMetrics.start(),Checks.blank(o),co,template,args);
 		return this;
 	}
 	public Validator beBlank(Object o,Integer co){
@@ -331,39 +556,21 @@ public class Validator{
 	 * 			字符串 !=null&&.length() in range<br/>
 	 * 			集合类 !=null&&.size() in range<br/>
 	 * 			map类  !=null&&.size() in range<br/>
-	 * 			迭代器 !=null&&iterator times in range<br/>
+	 * 			迭代器/Spliterator/Stream !=null&&iterator times in range,最多读取max(begin,end)+1个元素<br/>
 	 * 			数字类型!=null&&in range<br/>
+	 * 			CharSequence/数组/Buffer 按长度(Buffer为剩余长度)判断<br/>
+	 * 			其他类型可通过{@link TypeAdapters#register(Class, TypeAdapter)}注册<br/>
 	 * 			<b style="color:red">不在上述类型中则直接抛异常</b>
 	 */
-	@SuppressWarnings("rawtypes")
 	public Validator beInRange(Number begin,Number end,Object o,boolean beginInclude,boolean endInclude,Integer co,String ex){
-		beTrue(o!=null&&begin!=null&&end!=null, co, ex);
-		double be=begin.doubleValue(),en=end.doubleValue();
-		double len=-1;
-		if(o instanceof String){
-			len=((String) o).length();
-		}else if(o instanceof Collection){
-			len=((Collection) o).size();
-		}else if(o instanceof Map){
-			len=((Map) o).size();
-		}else if(o instanceof Iterator){
-			Iterator i=(Iterator)o;
-			double j=1;
-			while(i.hasNext()){
-				i.next();
-				j++;
-				//大于最大长度则直接break
-				if(j>end.doubleValue()+1){
-					break;
-				}
-			}
-			len=len+j;
-		}else if(o instanceof Number){
-			len=((Number) o).doubleValue();
-		}else{
-			beTrue(false,UNKOWN_TYPE_CO,UNKNOWN_TYPE_EX);
-		}
-		beTrue((beginInclude?be<=len:be<len)&&(endInclude?len<=en:len<en), co, ex);
+		return status(CheckType.IN_RANGE,ValidationMetrics.start(),Checks.inRange(begin,end,o,beginInclude,endInclude),co,ex);
+	}
+	public Validator beInRange(Number begin,Number end,Object o,boolean beginInclude,boolean endInclude,int co,Supplier<String> ex){
+		status(CheckType.IN_RANGE,ValidationMetrics.start(),Checks.inRange(begin,end,o,beginInclude,endInclude),co,ex);
+		return this;
+	}
+	public Validator beInRange(Number begin,Number end,Object o,boolean beginInclude,boolean endInclude,int co,String template,Object... args){
+		status(CheckType.IN_RANGE,ValidationMetrics.start(),Checks.inRange(begin,end,o,beginInclude,endInclude),co,template,args);
 		return this;
 	}
 	public Validator beInRange(Number begin,Number end,Object o,boolean beginIncluded,boolean endIncluded){
@@ -380,41 +587,103 @@ public class Validator{
 	}
 	
 	
+	/**
+	 * 功能描述：判断所给int是否在指定范围内,避免装箱
+	 */
+	public Validator beInRangeInt(int begin,int end,int o,boolean beginInclude,boolean endInclude,int co,String ex){
+		check(CheckType.IN_RANGE,ValidationMetrics.start(),Checks.inRange(begin,end,o,beginInclude,endInclude),co,ex);
+		return this;
+	}
+	public Validator beInRangeInt(int begin,int end,int o,boolean beginInclude,boolean endInclude,int co,String template,Object... args){
+		check(CheckType.IN_RANGE,ValidationMetrics.start(),Checks.inRange(begin,end,o,beginInclude,endInclude),co,template,args);
+		return this;
+	}
+	public Validator beInRangeInt(int begin,int end,int o,boolean beginInclude,boolean endInclude){
+		check(CheckType.IN_RANGE,ValidationMetrics.start(),Checks.inRange(begin,end,o,beginInclude,endInclude),null,null);
+		return this;
+	}
+	public Validator beInRangeInt(int begin,int end,int o,int co){
+		return beInRangeInt(begin,end,o,false,false,co,null);
+	}
+	public Validator beInRangeInt(int begin,int end,int o,String ex){
+		check(CheckType.IN_RANGE,ValidationMetrics.start(),Checks.inRange(begin,end,o,false,false),null,ex);
+		return this;
+	}
+	public Validator beInRangeInt(int begin,int end,int o){
+		return beInRangeInt(begin,end,o,false,false);
+	}
+	/**
+	 * 功能描述：判断所给long是否在指定范围内,避免装箱,按整数精确比较,不会因转换为double丢失精度
+	 */
+	public Validator beInRangeLong(long begin,long end,long o,boolean beginInclude,boolean endInclude,int co,String ex){
+		check(CheckType.IN_RANGE,ValidationMetrics.start(),Checks.inRange(begin,end,o,beginInclude,endInclude),co,ex);
+		return this;
+	}
+	public Validator beInRangeLong(long begin,long end,long o,boolean beginInclude,boolean endInclude,int co,String template,Object... args){
+		check(CheckType.IN_RANGE,ValidationMetrics.start(),Checks.inRange(begin,end,o,beginInclude,endInclude),co,template,args);
+		return this;
+	}
+	public Validator beInRangeLong(long begin,long end,long o,boolean beginInclude,boolean endInclude){
+		check(CheckType.IN_RANGE,ValidationMetrics.start(),Checks.inRange(begin,end,o,beginInclude,endInclude),null,null);
+		return this;
+	}
+	public Validator beInRangeLong(long begin,long end,long o,int co){
+		return beInRangeLong(begin,end,o,false,false,co,null);
+	}
+	public Validator beInRangeLong(long begin,long end,long o,String ex){
+		check(CheckType.IN_RANGE,ValidationMetrics.start(),Checks.inRange(begin,end,o,false,false),null,ex);
+		return this;
+	}
+	public Validator beInRangeLong(long begin,long end,long o){
+		return beInRangeLong(begin,end,o,false,false);
+	}
+	/**
+	 * 功能描述：判断所给double是否在指定范围内,避免装箱
+	 */
+	public Validator beInRangeDouble(double begin,double end,double o,boolean beginInclude,boolean endInclude,int co,String ex){
+		check(CheckType.IN_RANGE,ValidationMetrics.start(),Checks.inRange(begin,end,o,beginInclude,endInclude),co,ex);
+		return this;
+	}
+	public Validator beInRangeDouble(double begin,double end,double o,boolean beginInclude,boolean endInclude,int co,String template,Object... args){
+		check(CheckType.IN_RANGE,ValidationMetrics.start(),Checks.inRange(begin,end,o,beginInclude,endInclude),co,template,args);
+		return this;
+	}
+	public Validator beInRangeDouble(double begin,double end,double o,boolean beginInclude,boolean endInclude){
+		check(CheckType.IN_RANGE,ValidationMetrics.start(),Checks.inRange(begin,end,o,beginInclude,endInclude),null,null);
+		return this;
+	}
+	public Validator beInRangeDouble(double begin,double end,double o,int co){
+		return beInRangeDouble(begin,end,o,false,false,co,null);
+	}
+	public Validator beInRangeDouble(double begin,double end,double o,String ex){
+		check(CheckType.IN_RANGE,ValidationMetrics.start(),Checks.inRange(begin,end,o,false,false),null,ex);
+		return this;
+	}
+	public Validator beInRangeDouble(double begin,double end,double o){
+		return beInRangeDouble(begin,end,o,false,false);
+	}
+	
 	/*   be not in range part   */
 	/**
 	 * 功能描述：判断所给对象是否不在指定范围内<br/>
 	 * 			字符串 !=null&&.length() not in range<br/>
 	 * 			集合类 !=null&&.size() not in range<br/>
 	 * 			map类  !=null&&.size() not in range<br/>
-	 * 			迭代器 !=null&&iterator times not in range<br/>
+	 * 			迭代器/Spliterator/Stream !=null&&iterator times not in range,最多读取max(begin,end)+1个元素<br/>
 	 * 			数字类型!=null&&not in range<br/>
+	 * 			CharSequence/数组/Buffer 按长度(Buffer为剩余长度)判断<br/>
+	 * 			其他类型可通过{@link TypeAdapters#register(Class, TypeAdapter)}注册<br/>
 	 * 			<b style="color:red">不在上述类型中则直接抛异常</b>
 	 */
-	@SuppressWarnings("rawtypes")
 	public Validator beNotInRange(Number begin,Number end,Object o,boolean beginInclude,boolean endInclude,Integer co,String ex){
-		beTrue(o!=null&&begin!=null&&end!=null, co, ex);
-		double be=begin.doubleValue(),en=end.doubleValue();
-		double len=-1;
-		if(o instanceof String){
-			len=((String) o).length();
-		}else if(o instanceof Collection){
-			len=((Collection) o).size();
-		}else if(o instanceof Map){
-			len=((Map) o).size();
-		}else if(o instanceof Iterator){
-			Iterator i=(Iterator)o;
-			double j=1;
-			while(i.hasNext()){
-				i.next();
-				j++;
-			}
-			len=len+j;
-		}else if(o instanceof Number){
-			len=((Number) o).doubleValue();
-		}else{
-			beTrue(false,UNKOWN_TYPE_CO,UNKNOWN_TYPE_EX);
-		}
-		beTrue((beginInclude?len<=be:len<be)||(endInclude?len>=en:len>en), co, ex);
+		return status(CheckType.NOT_IN_RANGE,ValidationMetrics.start(),Checks.notInRange(begin,end,o,beginInclude,endInclude),co,ex);
+	}
+	public Validator beNotInRange(Number begin,Number end,Object o,boolean beginInclude,boolean endInclude,int co,Supplier<String> ex){
+		status(CheckType.NOT_IN_RANGE,ValidationMetrics.start(),Checks.notInRange(begin,end,o,beginInclude,endInclude),co,ex);
+		return this;
+	}
+	public Validator beNotInRange(Number begin,Number end,Object o,boolean beginInclude,boolean endInclude,int co,String template,Object... args){
+		status(CheckType.NOT_IN_RANGE,ValidationMetrics.start(),Checks.notInRange(begin,end,o,beginInclude,endInclude),co,template,args);
 		return this;
 	}
 	public Validator beNotInRange(Number begin,Number end,Object o,boolean beginIncluded,boolean endIncluded){
@@ -430,14 +699,96 @@ public class Validator{
 		return beNotInRange(begin,end,o,false,false,null,null);
 	}
 	
+	/**
+	 * 功能描述：判断所给int是否不在指定范围内,避免装箱
+	 */
+	public Validator beNotInRangeInt(int begin,int end,int o,boolean beginInclude,boolean endInclude,int co,String ex){
+		check(CheckType.NOT_IN_RANGE,ValidationMetrics.start(),Checks.notInRange(begin,end,o,beginInclude,endInclude),co,ex);
+		return this;
+	}
+	public Validator beNotInRangeInt(int begin,int end,int o,boolean beginInclude,boolean endInclude,int co,String template,Object... args){
+		check(CheckType.NOT_IN_RANGE,ValidationMetrics.start(),Checks.notInRange(begin,end,o,beginInclude,endInclude),co,template,args);
+		return this;
+	}
+	public Validator beNotInRangeInt(int begin,int end,int o,boolean beginInclude,boolean endInclude){
+		check(CheckType.NOT_IN_RANGE,ValidationMetrics.start(),Checks.notInRange(begin,end,o,beginInclude,endInclude),null,null);
+		return this;
+	}
+	public Validator beNotInRangeInt(int begin,int end,int o,int co){
+		return beNotInRangeInt(begin,end,o,false,false,co,null);
+	}
+	public Validator beNotInRangeInt(int begin,int end,int o,String ex){
+		check(CheckType.NOT_IN_RANGE,ValidationMetrics.start(),Checks.notInRange(begin,end,o,false,false),null,ex);
+		return this;
+	}
+	public Validator beNotInRangeInt(int begin,int end,int o){
+		return beNotInRangeInt(begin,end,o,false,false);
+	}
+	/**
+	 * 功能描述：判断所给long是否不在指定范围内,避免装箱,按整数精确比较,不会因转换为double丢失精度
+	 */
+	public Validator beNotInRangeLong(long begin,long end,long o,boolean beginInclude,boolean endInclude,int co,String ex){
+		check(CheckType.NOT_IN_RANGE,ValidationMetrics.start(),Checks.notInRange(begin,end,o,beginInclude,endInclude),co,ex);
+		return this;
+	}
+	public Validator beNotInRangeLong(long begin,long end,long o,boolean beginInclude,boolean endInclude,int co,String template,Object... args){
+		check(CheckType.NOT_IN_RANGE,ValidationMetrics.start(),Checks.notInRange(begin,end,o,beginInclude,endInclude),co,template,args);
+		return this;
+	}
+	public Validator beNotInRangeLong(long begin,long end,long o,boolean beginInclude,boolean endInclude){
+		check(CheckType.NOT_IN_RANGE,ValidationMetrics.start(),Checks.notInRange(begin,end,o,beginInclude,endInclude),null,null);
+		return this;
+	}
+	public Validator beNotInRangeLong(long begin,long end,long o,int co){
+		return beNotInRangeLong(begin,end,o,false,false,co,null);
+	}
+	public Validator beNotInRangeLong(long begin,long end,long o,String ex){
+		check(CheckType.NOT_IN_RANGE,ValidationMetrics.start(),Checks.notInRange(begin,end,o,false,false),null,ex);
+		return this;
+	}
+	public Validator beNotInRangeLong(long begin,long end,long o){
+		return beNotInRangeLong(begin,end,o,false,false);
+	}
+	/**
+	 * 功能描述：判断所给double是否不在指定范围内,避免装箱
+	 */
+	public Validator beNotInRangeDouble(double begin,double end,double o,boolean beginInclude,boolean endInclude,int co,String ex){
+		check(CheckType.NOT_IN_RANGE,ValidationMetrics.start(),Checks.notInRange(begin,end,o,beginInclude,endInclude),co,ex);
+		return this;
+	}
+	public Validator beNotInRangeDouble(double begin,double end,double o,boolean beginInclude,boolean endInclude,int co,String template,Object... args){
+		check(CheckType.NOT_IN_RANGE,ValidationMetrics.start(),Checks.notInRange(begin,end,o,beginInclude,endInclude),co,template,args);
+		return this;
+	}
+	public Validator beNotInRangeDouble(double begin,double end,double o,boolean beginInclude,boolean endInclude){
+		check(CheckType.NOT_IN_RANGE,ValidationMetrics.start(),Checks.notInRange(begin,end,o,beginInclude,endInclude),null,null);
+		return this;
+	}
+	public Validator beNotInRangeDouble(double begin,double end,double o,int co){
+		return beNotInRangeDouble(begin,end,o,false,false,co,null);
+	}
+	public Validator beNotInRangeDouble(double begin,double end,double o,String ex){
+		check(CheckType.NOT_IN_RANGE,ValidationMetrics.start(),Checks.notInRange(begin,end,o,false,false),null,ex);
+		return this;
+	}
+	public Validator beNotInRangeDouble(double begin,double end,double o){
+		return beNotInRangeDouble(begin,end,o,false,false);
+	}
+	
 	/*   be less than part   */
 	/**
 	 * 功能描述：判断所给数据是否小于指定数据
 	 */
 	public Validator beLessThan(Number data,Number target,boolean targetInclude,Integer co,String ex){
-		beTrue(data!=null&&target!=null,co,ex);
-		double ddata=data.doubleValue(),tdata=target.doubleValue();
-		return beTrue(targetInclude?ddata<=tdata:ddata<tdata, co, ex);
+		return be(CheckType.LESS_THAN,ValidationMetrics.start(),Checks.lessThan(data,target,targetInclude),co,ex);
+	}
+	public Validator beLessThan(Number data,Number target,boolean targetInclude,int co,Supplier<String> ex){
+		check(CheckType.LESS_THAN,ValidationMetrics.start(),Checks.lessThan(data,target,targetInclude),co,ex);
+		return this;
+	}
+	public Validator beLessThan(Number data,Number target,boolean targetInclude,int co,String template,Object... args){
+		check(CheckType.LESS_THAN,ValidationMetrics.start(),Checks.lessThan(data,target,targetInclude),co,template,args);
+		return this;
 	}
 	public Validator beLessThan(Number data,Number target,boolean targetInclude){
 		return beLessThan(data,target,targetInclude,null,null);
@@ -452,14 +803,96 @@ public class Validator{
 		return beLessThan(data,target,false,null,null);
 	}
 	
+	/**
+	 * 功能描述：判断所给int是否小于指定数据,避免装箱
+	 */
+	public Validator beLessThanInt(int data,int target,boolean targetInclude,int co,String ex){
+		check(CheckType.LESS_THAN,ValidationMetrics.start(),Checks.lessThan(data,target,targetInclude),co,ex);
+		return this;
+	}
+	public Validator beLessThanInt(int data,int target,boolean targetInclude,int co,String template,Object... args){
+		check(CheckType.LESS_THAN,ValidationMetrics.start(),Checks.lessThan(data,target,targetInclude),co,template,args);
+		return this;
+	}
+	public Validator beLessThanInt(int data,int target,boolean targetInclude){
+		check(CheckType.LESS_THAN,ValidationMetrics.start(),Checks.lessThan(data,target,targetInclude),null,null);
+		return this;
+	}
+	public Validator beLessThanInt(int data,int target,boolean targetInclude,int co){
+		return beLessThanInt(data,target,targetInclude,co,null);
+	}
+	public Validator beLessThanInt(int data,int target,boolean targetInclude,String ex){
+		check(CheckType.LESS_THAN,ValidationMetrics.start(),Checks.lessThan(data,target,targetInclude),null,ex);
+		return this;
+	}
+	public Validator beLessThanInt(int data,int target){
+		return beLessThanInt(data,target,false);
+	}
+	/**
+	 * 功能描述：判断所给long是否小于指定数据,避免装箱,按整数精确比较,不会因转换为double丢失精度
+	 */
+	public Validator beLessThanLong(long data,long target,boolean targetInclude,int co,String ex){
+		check(CheckType.LESS_THAN,ValidationMetrics.start(),Checks.lessThan(data,target,targetInclude),co,ex);
+		return this;
+	}
+	public Validator beLessThanLong(long data,long target,boolean targetInclude,int co,String template,Object... args){
+		check(CheckType.LESS_THAN,ValidationMetrics.start(),Checks.lessThan(data,target,targetInclude),co,template,args);
+		return this;
+	}
+	public Validator beLessThanLong(long data,long target,boolean targetInclude){
+		check(CheckType.LESS_THAN,ValidationMetrics.start(),Checks.lessThan(data,target,targetInclude),null,null);
+		return this;
+	}
+	public Validator beLessThanLong(long data,long target,boolean targetInclude,int co){
+		return beLessThanLong(data,target,targetInclude,co,null);
+	}
+	public Validator beLessThanLong(long data,long target,boolean targetInclude,String ex){
+		check(CheckType.LESS_THAN,ValidationMetrics.start(),Checks.lessThan(data,target,targetInclude),null,ex);
+		return this;
+	}
+	public Validator beLessThanLong(long data,long target){
+		return beLessThanLong(data,target,false);
+	}
+	/**
+	 * 功能描述：判断所给double是否小于指定数据,避免装箱
+	 */
+	public Validator beLessThanDouble(double data,double target,boolean targetInclude,int co,String ex){
+		check(CheckType.LESS_THAN,ValidationMetrics.start(),Checks.lessThan(data,target,targetInclude),co,ex);
+		return this;
+	}
+	public Validator beLessThanDouble(double data,double target,boolean targetInclude,int co,String template,Object... args){
+		check(CheckType.LESS_THAN,ValidationMetrics.start(),Checks.lessThan(data,target,targetInclude),co,template,args);
+		return this;
+	}
+	public Validator beLessThanDouble(double data,double target,boolean targetInclude){
+		check(CheckType.LESS_THAN,ValidationMetrics.start(),Checks.lessThan(data,target,targetInclude),null,null);
+		return this;
+	}
+	public Validator beLessThanDouble(double data,double target,boolean targetInclude,int co){
+		return beLessThanDouble(data,target,targetInclude,co,null);
+	}
+	public Validator beLessThanDouble(double data,double target,boolean targetInclude,String ex){
+		check(CheckType.LESS_THAN,ValidationMetrics.start(),Checks.lessThan(data,target,targetInclude),null,ex);
+		return this;
+	}
+	public Validator beLessThanDouble(double data,double target){
+		return beLessThanDouble(data,target,false);
+	}
+	
 	/*   be greater than part   */
 	/**
 	 * 功能描述：判断所给数据是否小于指定数据
 	 */
 	public Validator beGreaterThan(Number data,Number target,boolean targetInclude,Integer co,String ex){
-		beTrue(data!=null&&target!=null,co,ex);
-		double ddata=data.doubleValue(),tdata=target.doubleValue();
-		return beTrue(targetInclude?ddata>=tdata:ddata>tdata, co, ex);
+		return be(CheckType.GREATER_THAN,ValidationMetrics.start(),Checks.greaterThan(data,target,targetInclude),co,ex);
+	}
+	public Validator beGreaterThan(Number data,Number target,boolean targetInclude,int co,Supplier<String> ex){
+		check(CheckType.GREATER_THAN,ValidationMetrics.start(),Checks.greaterThan(data,target,targetInclude),co,ex);
+		return this;
+	}
+	public Validator beGreaterThan(Number data,Number target,boolean targetInclude,int co,String template,Object... args){
+		check(CheckType.GREATER_THAN,ValidationMetrics.start(),Checks.greaterThan(data,target,targetInclude),co,template,args);
+		return this;
 	}
 	public Validator beGreaterThan(Number data,Number target,boolean targetInclude){
 		return beGreaterThan(data,target,targetInclude,null,null);
@@ -474,39 +907,230 @@ public class Validator{
 		return beGreaterThan(data,target,false,null,null);
 	}
 	
-	/*   be in part   */
 	/**
-	 * 功能描述：判断所给数据(第一个参数)，是否在后续参数中出现过,如果没有则抛出异常
+	 * 功能描述：判断所给int是否大于指定数据,避免装箱
 	 */
-	public Validator beIn(Object o,Object ... target){
-		beTrue(o!=null&&target.length>0,null,null);
-		boolean flag=false;
-		for(Object tmpo : target){
-			if(o.equals(tmpo)){
-				flag=true;
-				break;
-			}
-		}
-		return beTrue(flag,null,null);
+	public Validator beGreaterThanInt(int data,int target,boolean targetInclude,int co,String ex){
+		check(CheckType.GREATER_THAN,ValidationMetrics.start(),Checks.greaterThan(data,target,targetInclude),co,ex);
+		return this;
 	}
-	
-	/*   be not in part   */
-	/**
+	public Validator beGreaterThanInt(int data,int target,boolean targetInclude,int co,String template,Object... args){
+		check(CheckType.GREATER_THAN,ValidationMetrics.start(),Checks.greaterThan(data,target,targetInclude),co,template,args);
+		return this;
+	}
+	public Validator beGreaterThanInt(int data,int target,boolean targetInclude){
+		check(CheckType.GREATER_THAN,ValidationMetrics.start(),Checks.greaterThan(data,target,targetInclude),null,null);
+		return this;
+	}
+	public Validator beGreaterThanInt(int data,int target,boolean targetInclude,int co){
+		return beGreaterThanInt(data,target,targetInclude,co,null);
+	}
+	public Validator beGreaterThanInt(int data,int target,boolean targetInclude,String ex){
+		check(CheckType.GREATER_THAN,ValidationMetrics.start(),Checks.greaterThan(data,target,targetInclude),null,ex);
+		return this;
+	}
+	public Validator beGreaterThanInt(int data,int target){
+		return beGreaterThanInt(data,target,false);
+	}
+	/**
+	 * 功能描述：判断所给long是否大于指定数据,避免装箱,按整数精确比较,不会因转换为double丢失精度
+	 */
+	public Validator beGreaterThanLong(long data,long target,boolean targetInclude,int co,String ex){
+		check(CheckType.GREATER_THAN,ValidationMetrics.start(),Checks.greaterThan(data,target,targetInclude),co,ex);
+		return this;
+	}
+	public Validator beGreaterThanLong(long data,long target,boolean targetInclude,int co,String template,Object... args){
+		check(CheckType.GREATER_THAN,ValidationMetrics.start(),Checks.greaterThan(data,target,targetInclude),co,template,args);
+		return this;
+	}
+	public Validator beGreaterThanLong(long data,long target,boolean targetInclude){
+		check(CheckType.GREATER_THAN,ValidationMetrics.start(),Checks.greaterThan(data,target,targetInclude),null,null);
+		return this;
+	}
+	public Validator beGreaterThanLong(long data,long target,boolean targetInclude,int co){
+		return beGreaterThanLong(data,target,targetInclude,co,null);
+	}
+	public Validator beGreaterThanLong(long data,long target,boolean targetInclude,String ex){
+		check(CheckType.GREATER_THAN,ValidationMetrics.start(),Checks.greaterThan(data,target,targetInclude),null,ex);
+		return this;
+	}
+	public Validator beGreaterThanLong(long data,long target){
+		return beGreaterThanLong(data,target,false);
+	}
+	/**
+	 * 功能描述：判断所给double是否大于指定数据,避免装箱
+	 */
+	public Validator beGreaterThanDouble(double data,double target,boolean targetInclude,int co,String ex){
+		check(CheckType.GREATER_THAN,ValidationMetrics.start(),Checks.greaterThan(data,target,targetInclude),co,ex);
+		return this;
+	}
+	public Validator beGreaterThanDouble(double data,double target,boolean targetInclude,int co,String template,Object... args){
+		check(CheckType.GREATER_THAN,ValidationMetrics.start(),Checks.greaterThan(data,target,targetInclude),co,template,args);
+		return this;
+	}
+	public Validator beGreaterThanDouble(double data,double target,boolean targetInclude){
+		check(CheckType.GREATER_THAN,ValidationMetrics.start(),Checks.greaterThan(data,target,targetInclude),null,null);
+		return this;
+	}
+	public Validator beGreaterThanDouble(double data,double target,boolean targetInclude,int co){
+		return beGreaterThanDouble(data,target,targetInclude,co,null);
+	}
+	public Validator beGreaterThanDouble(double data,double target,boolean targetInclude,String ex){
+		check(CheckType.GREATER_THAN,ValidationMetrics.start(),Checks.greaterThan(data,target,targetInclude),null,ex);
+		return this;
+	}
+	public Validator beGreaterThanDouble(double data,double target){
+		return beGreaterThanDouble(data,target,false);
+	}
+	
+	/*   be in part   */
+	/**
+	 * 功能描述：判断所给数据(第一个参数)，是否在后续参数中出现过,如果没有则抛出异常
+	 */
+	public Validator beIn(Object o,Object ... target){
+		return be(CheckType.IN,ValidationMetrics.start(),Checks.in(o,target),null,null);
+	}
+	/**
+	 * 功能描述：判断所给数据是否在预先构建的候选集合中,集合可由{@link StringCandidateSet}/{@link IntCandidateSet}/{@link LongCandidateSet}冻结得到,判断为O(1)且不分配对象
+	 */
+	public Validator beIn(Object o,Set<?> target,Integer co,String ex){
+		return be(CheckType.IN,ValidationMetrics.start(),Checks.in(o,target),co,ex);
+	}
+	public Validator beIn(Object o,Set<?> target,int co,Supplier<String> ex){
+		check(CheckType.IN,ValidationMetrics.start(),Checks.in(o,target),co,ex);
+		return this;
+	}
+	public Validator beIn(Object o,Set<?> target,Integer co){
+		return beIn(o,target,co,null);
+	}
+	public Validator beIn(Object o,Set<?> target,String ex){
+		return beIn(o,target,null,ex);
+	}
+	public Validator beIn(Object o,Set<?> target){
+		return beIn(o,target,null,null);
+	}
+	public Validator beIn(String o,StringCandidateSet target,Integer co,String ex){
+		return be(CheckType.IN,ValidationMetrics.start(),target!=null&&target.contains(o),co,ex);
+	}
+	public Validator beIn(String o,StringCandidateSet target,int co,Supplier<String> ex){
+		check(CheckType.IN,ValidationMetrics.start(),target!=null&&target.contains(o),co,ex);
+		return this;
+	}
+	public Validator beIn(String o,StringCandidateSet target,Integer co){
+		return beIn(o,target,co,null);
+	}
+	public Validator beIn(String o,StringCandidateSet target,String ex){
+		return beIn(o,target,null,ex);
+	}
+	public Validator beIn(String o,StringCandidateSet target){
+		return beIn(o,target,null,null);
+	}
+	public Validator beIn(int o,IntCandidateSet target,Integer co,String ex){
+		return be(CheckType.IN,ValidationMetrics.start(),target!=null&&target.contains(o),co,ex);
+	}
+	public Validator beIn(int o,IntCandidateSet target,int co,Supplier<String> ex){
+		check(CheckType.IN,ValidationMetrics.start(),target!=null&&target.contains(o),co,ex);
+		return this;
+	}
+	public Validator beIn(int o,IntCandidateSet target,Integer co){
+		return beIn(o,target,co,null);
+	}
+	public Validator beIn(int o,IntCandidateSet target,String ex){
+		return beIn(o,target,null,ex);
+	}
+	public Validator beIn(int o,IntCandidateSet target){
+		return beIn(o,target,null,null);
+	}
+	public Validator beIn(long o,LongCandidateSet target,Integer co,String ex){
+		return be(CheckType.IN,ValidationMetrics.start(),target!=null&&target.contains(o),co,ex);
+	}
+	public Validator beIn(long o,LongCandidateSet target,int co,Supplier<String> ex){
+		check(CheckType.IN,ValidationMetrics.start(),target!=null&&target.contains(o),co,ex);
+		return this;
+	}
+	public Validator beIn(long o,LongCandidateSet target,Integer co){
+		return beIn(o,target,co,null);
+	}
+	public Validator beIn(long o,LongCandidateSet target,String ex){
+		return beIn(o,target,null,ex);
+	}
+	public Validator beIn(long o,LongCandidateSet target){
+		return beIn(o,target,null,null);
+	}
+	
+	/*   be not in part   */
+	/**
 	 * 功能描述：判断所给数据(第一个参数)，是否未在后续参数中出现过,如果有，则抛出异常
 	 */
 	public Validator beNotIn(Object o,Object ... target){
-		beTrue(o!=null,null,null);
-		if(target.length==0){
-			return this;
-		}
-		boolean flag=true;
-		for(Object tmpo : target){
-			if(o.equals(tmpo)){
-				flag=false;
-				break;
-			}
-		}
-		return beTrue(flag,null,null);
+		return be(CheckType.NOT_IN,ValidationMetrics.start(),Checks.notIn(o,target),null,null);
+	}
+	/**
+	 * 功能描述：判断所给数据是否不在预先构建的候选集合中
+	 */
+	public Validator beNotIn(Object o,Set<?> target,Integer co,String ex){
+		return be(CheckType.NOT_IN,ValidationMetrics.start(),Checks.notIn(o,target),co,ex);
+	}
+	public Validator beNotIn(Object o,Set<?> target,int co,Supplier<String> ex){
+		check(CheckType.NOT_IN,ValidationMetrics.start(),Checks.notIn(o,target),co,ex);
+		return this;
+	}
+	public Validator beNotIn(Object o,Set<?> target,Integer co){
+		return beNotIn(o,target,co,null);
+	}
+	public Validator beNotIn(Object o,Set<?> target,String ex){
+		return beNotIn(o,target,null,ex);
+	}
+	public Validator beNotIn(Object o,Set<?> target){
+		return beNotIn(o,target,null,null);
+	}
+	public Validator beNotIn(String o,StringCandidateSet target,Integer co,String ex){
+		return be(CheckType.NOT_IN,ValidationMetrics.start(),o!=null&&target!=null&&!target.contains(o),co,ex);
+	}
+	public Validator beNotIn(String o,StringCandidateSet target,int co,Supplier<String> ex){
+		check(CheckType.NOT_IN,ValidationMetrics.start(),o!=null&&target!=null&&!target.contains(o),co,ex);
+		return this;
+	}
+	public Validator beNotIn(String o,StringCandidateSet target,Integer co){
+		return beNotIn(o,target,co,null);
+	}
+	public Validator beNotIn(String o,StringCandidateSet target,String ex){
+		return beNotIn(o,target,null,ex);
+	}
+	public Validator beNotIn(String o,StringCandidateSet target){
+		return beNotIn(o,target,null,null);
+	}
+	public Validator beNotIn(int o,IntCandidateSet target,Integer co,String ex){
+		return be(CheckType.NOT_IN,ValidationMetrics.start(),target!=null&&!target.contains(o),co,ex);
+	}
+	public Validator beNotIn(int o,IntCandidateSet target,int co,Supplier<String> ex){
+		check(CheckType.NOT_IN,ValidationMetrics.start(),target!=null&&!target.contains(o),co,ex);
+		return this;
+	}
+	public Validator beNotIn(int o,IntCandidateSet target,Integer co){
+		return beNotIn(o,target,co,null);
+	}
+	public Validator beNotIn(int o,IntCandidateSet target,String ex){
+		return beNotIn(o,target,null,ex);
+	}
+	public Validator beNotIn(int o,IntCandidateSet target){
+		return beNotIn(o,target,null,null);
+	}
+	public Validator beNotIn(long o,LongCandidateSet target,Integer co,String ex){
+		return be(CheckType.NOT_IN,ValidationMetrics.start(),target!=null&&!target.contains(o),co,ex);
+	}
+	public Validator beNotIn(long o,LongCandidateSet target,int co,Supplier<String> ex){
+		check(CheckType.NOT_IN,ValidationMetrics.start(),target!=null&&!target.contains(o),co,ex);
+		return this;
+	}
+	public Validator beNotIn(long o,LongCandidateSet target,Integer co){
+		return beNotIn(o,target,co,null);
+	}
+	public Validator beNotIn(long o,LongCandidateSet target,String ex){
+		return beNotIn(o,target,null,ex);
+	}
+	public Validator beNotIn(long o,LongCandidateSet target){
+		return beNotIn(o,target,null,null);
 	}
 	
 	
@@ -516,20 +1140,19 @@ public class Validator{
 	 * 			字符串 !=null&&.contains()>0<br/>
 	 * 			集合类 !=null&&.contains()>0<br/>
 	 * 			map类  !=null&&.containsKey()>0<br/>
+	 * 			CharSequence 按o1.toString()子串判断,数组(含基本类型数组) 按元素equals判断,Buffer不支持<br/>
+	 * 			其他类型可通过{@link TypeAdapters#register(Class, TypeAdapter)}注册<br/>
 	 * 			<b style="color:red">不在上述类型中则直接抛异常</b>
 	 */
-	@SuppressWarnings("rawtypes")
 	public Validator beContains(Object o1,Object o2,Integer co,String ex){
-		beTrue(o1!=null&&o2!=null, co, ex);
-		if(o2 instanceof String){
-			beTrue(((String) o2).contains(o1.toString()), co, ex);
-		}else if(o2 instanceof Collection){
-			beTrue(((Collection) o2).contains(o1), co, ex);
-		}else if(o2 instanceof Map){
-			beTrue(((Map) o2).containsKey(o1), co, ex);
-		}else{
-			beTrue(false,UNKOWN_TYPE_CO,UNKNOWN_TYPE_EX);
-		}
+		return status(CheckType.CONTAINS,ValidationMetrics.start(),Checks.contains(o1,o2),co,ex);
+	}
+	public Validator beContains(Object o1,Object o2,int co,Supplier<String> ex){
+		status(CheckType.CONTAINS,ValidationMetrics.start(),Checks.contains(o1,o2),co,ex);
+		return this;
+	}
+	public Validator beContains(Object o1,Object o2,int co,String template,Object... args){
+		status(CheckType.CONTAINS,ValidationMetrics.start(),Checks.contains(o1,o2),co,template,args);
 		return this;
 	}
 	public Validator beContains(Object o1,Object o2,Integer co){
@@ -548,20 +1171,19 @@ public class Validator{
 	 * 			字符串 !=null&&.contains()>0<br/>
 	 * 			集合类 !=null&&.contains()>0<br/>
 	 * 			map类  !=null&&.containsKey()>0<br/>
+	 * 			CharSequence 按o1.toString()子串判断,数组(含基本类型数组) 按元素equals判断,Buffer不支持<br/>
+	 * 			其他类型可通过{@link TypeAdapters#register(Class, TypeAdapter)}注册<br/>
 	 * 			<b style="color:red">不在上述类型中则直接抛异常</b>
 	 */
-	@SuppressWarnings("rawtypes")
 	public Validator beNotContains(Object o1,Object o2,Integer co,String ex){
-		beTrue(o1!=null&&o2!=null, co, ex);
-		if(o2 instanceof String){
-			beTrue(!((String) o2).contains(o1.toString()), co, ex);
-		}else if(o2 instanceof Collection){
-			beTrue(!((Collection) o2).contains(o1), co, ex);
-		}else if(o2 instanceof Map){
-			beTrue(!((Map) o2).containsKey(o1), co, ex);
-		}else{
-			beTrue(false,UNKOWN_TYPE_CO,UNKNOWN_TYPE_EX);
-		}
+		return status(CheckType.NOT_CONTAINS,ValidationMetrics.start(),Checks.notContains(o1,o2),co,ex);
+	}
+	public Validator beNotContains(Object o1,Object o2,int co,Supplier<String> ex){
+		status(CheckType.NOT_CONTAINS,ValidationMetrics.start(),Checks.notContains(o1,o2),co,ex);
+		return this;
+	}
+	public Validator beNotContains(Object o1,Object o2,int co,String template,Object... args){
+		status(CheckType.NOT_CONTAINS,ValidationMetrics.start(),Checks.notContains(o1,o2),co,template,args);
 		return this;
 	}
 	public Validator beNotContains(Object o1,Object o2,Integer co){
@@ -576,21 +1198,19 @@ public class Validator{
 	
 	/*   be Number part    */
 	/**
-	 * 功能描述：判断给定对象是否为数字
+	 * 功能描述：判断给定对象是否为数字,Number类型直接通过,其他对象按字符串判断:<br/>
+	 * 			十进制、科学计数法(规则同BigDecimal),或以0x开头的十六进制
 	 */
 	public Validator beNumbers(Object o,Integer co,String ex){
-		if(o instanceof Number) return this;
-		String so=o.toString();
-		if(so.startsWith("0x")){
-			beFalse(so.contains(".")||so.contains("_"));
-			so=so.substring(2);
-		}
-		try{
-			new BigDecimal(so);
-			return this;
-		}catch(NumberFormatException e){
-			return beTrue(false);
-		}
+		return be(CheckType.NUMBERS,ValidationMetrics.start(),Checks.numbers(o),co,ex);
+	}
+	public Validator beNumbers(Object o,int co,Supplier<String> ex){
+		check(CheckType.NUMBERS,ValidationMetrics.start(),Checks.numbers(o),co,ex);
+		return this;
+	}
+	public Validator beNumbers(Object o,int co,String template,Object... args){
+		check(CheckType.NUMBERS,ValidationMetrics.start(),Checks.numbers(o),co,template,args);
+		return this;
 	}
 	public Validator beNumbers(Object o,Integer co){
 		return beNumbers(o,co,null);
@@ -602,6 +1222,82 @@ public class Validator{
 		return beNumbers(o,null,null);
 	}
 	
+	/*   be int numbers part    */
+	/**
+	 * 功能描述：判断给定对象是否为int范围内的整数,字符串只接受可带正负号的十进制整数
+	 */
+	public Validator beIntNumbers(Object o,Integer co,String ex){
+		return be(CheckType.INT_NUMBERS,ValidationMetrics.start(),Checks.integral(o,Integer.MIN_VALUE,Integer.MAX_VALUE),co,ex);
+	}
+	public Validator beIntNumbers(Object o,int co,Supplier<String> ex){
+		check(CheckType.INT_NUMBERS,ValidationMetrics.start(),Checks.integral(o,Integer.MIN_VALUE,Integer.MAX_VALUE),co,ex);
+		return this;
+	}
+	public Validator beIntNumbers(Object o,int co,String template,Object... args){
+		check(CheckType.INT_NUMBERS,ValidationMetrics.start(),Checks.integral(o,Integer.MIN_VALUE,Integer.MAX_VALUE),co,template,args);
+		return this;
+	}
+	public Validator beIntNumbers(Object o,Integer co){
+		return beIntNumbers(o,co,null);
+	}
+	public Validator beIntNumbers(Object o,String ex){
+		return beIntNumbers(o,null,ex);
+	}
+	public Validator beIntNumbers(Object o){
+		return beIntNumbers(o,null,null);
+	}
+	
+	/*   be long numbers part    */
+	/**
+	 * 功能描述：判断给定对象是否为long范围内的整数,字符串只接受可带正负号的十进制整数
+	 */
+	public Validator beLongNumbers(Object o,Integer co,String ex){
+		return be(CheckType.LONG_NUMBERS,ValidationMetrics.start(),Checks.integral(o,Long.MIN_VALUE,Long.MAX_VALUE),co,ex);
+	}
+	public Validator beLongNumbers(Object o,int co,Supplier<String> ex){
+		check(CheckType.LONG_NUMBERS,ValidationMetrics.start(),Checks.integral(o,Long.MIN_VALUE,Long.MAX_VALUE),co,ex);
+		return this;
+	}
+	public Validator beLongNumbers(Object o,int co,String template,Object... args){
+		check(CheckType.LONG_NUMBERS,ValidationMetrics.start(),Checks.integral(o,Long.MIN_VALUE,Long.MAX_VALUE),co,template,args);
+		return this;
+	}
+	public Validator beLongNumbers(Object o,Integer co){
+		return beLongNumbers(o,co,null);
+	}
+	public Validator beLongNumbers(Object o,String ex){
+		return beLongNumbers(o,null,ex);
+	}
+	public Validator beLongNumbers(Object o){
+		return beLongNumbers(o,null,null);
+	}
+	
+	/*   be decimal numbers part    */
+	/**
+	 * 功能描述：判断给定对象是否为满足DECIMAL(precision,scale)的数字,即整数部分不超过precision-scale位,
+	 * 			小数部分(去掉末尾的0)不超过scale位,支持科学计数法
+	 */
+	public Validator beDecimalNumbers(Object o,int precision,int scale,Integer co,String ex){
+		return be(CheckType.DECIMAL_NUMBERS,ValidationMetrics.start(),Checks.decimal(o,precision,scale),co,ex);
+	}
+	public Validator beDecimalNumbers(Object o,int precision,int scale,int co,Supplier<String> ex){
+		check(CheckType.DECIMAL_NUMBERS,ValidationMetrics.start(),Checks.decimal(o,precision,scale),co,ex);
+		return this;
+	}
+	public Validator beDecimalNumbers(Object o,int precision,int scale,int co,String template,Object... args){
+		check(CheckType.DECIMAL_NUMBERS,ValidationMetrics.start(),Checks.decimal(o,precision,scale),co,template,args);
+		return this;
+	}
+	public Validator beDecimalNumbers(Object o,int precision,int scale,Integer co){
+		return beDecimalNumbers(o,precision,scale,co,null);
+	}
+	public Validator beDecimalNumbers(Object o,int precision,int scale,String ex){
+		return beDecimalNumbers(o,precision,scale,null,ex);
+	}
+	public Validator beDecimalNumbers(Object o,int precision,int scale){
+		return beDecimalNumbers(o,precision,scale,null,null);
+	}
+	
 	
 	
 	/*   be mobile phone number part    */
@@ -609,7 +1305,15 @@ public class Validator{
 	 * 功能描述：判断给定对象是否为手机号
 	 */
 	public Validator beMobilePhoneNumber(String number,Integer co,String ex){
-		return beTrueRegExp(number, "^[1][3,4,5,7,8,9][0-9]{9}$",co,ex);
+		return matches(CheckType.MOBILE_PHONE_NUMBER,number,Checks.MOBILE_PHONE_MATCHER,co,ex);
+	}
+	public Validator beMobilePhoneNumber(String number,int co,Supplier<String> ex){
+		check(CheckType.MOBILE_PHONE_NUMBER,ValidationMetrics.start(),Checks.mobilePhoneNumber(number),co,ex);
+		return this;
+	}
+	public Validator beMobilePhoneNumber(String number,int co,String template,Object... args){
+		check(CheckType.MOBILE_PHONE_NUMBER,ValidationMetrics.start(),Checks.mobilePhoneNumber(number),co,template,args);
+		return this;
 	}
 	public Validator beMobilePhoneNumber(String number,Integer co){
 		return beMobilePhoneNumber(number,co,null);
@@ -626,9 +1330,18 @@ public class Validator{
 	 * 功能描述：判断给定字符串是否满足正则表达式
 	 */
 	public Validator beTrueRegExp(String content,String regExp,Integer co,String ex){
-		beTrue(content!=null&&regExp!=null);
-		Pattern p = Pattern.compile(regExp);  
-		return beTrue(p.matcher(content).matches(),co,ex); 
+		if(!guard(CheckType.REGEXP,content!=null&&regExp!=null,null,null)){
+			return this;
+		}
+		return be(CheckType.REGEXP,ValidationMetrics.start(),Checks.matches(content,PATTERN_CACHE.matcher(regExp)),co,ex);
+	}
+	public Validator beTrueRegExp(String content,String regExp,int co,Supplier<String> ex){
+		check(CheckType.REGEXP,ValidationMetrics.start(),regExp!=null&&Checks.matches(content,PATTERN_CACHE.matcher(regExp)),co,ex);
+		return this;
+	}
+	public Validator beTrueRegExp(String content,String regExp,int co,String template,Object... args){
+		check(CheckType.REGEXP,ValidationMetrics.start(),regExp!=null&&Checks.matches(content,PATTERN_CACHE.matcher(regExp)),co,template,args);
+		return this;
 	}
 	public Validator beTrueRegExp(String content,String regExp,Integer co){
 		return beTrueRegExp(content,regExp,co,null);
@@ -640,18 +1353,65 @@ public class Validator{
 		return beTrueRegExp(content,regExp,null,null);
 	}
 	
+	/**
+	 * 功能描述：判断给定字符串是否满足已编译的正则表达式,适用于调用方自行持有常量Pattern的场景
+	 */
+	public Validator beTrueRegExp(String content,Pattern pattern,Integer co,String ex){
+		if(!guard(CheckType.REGEXP,content!=null&&pattern!=null,null,null)){
+			return this;
+		}
+		return be(CheckType.REGEXP,ValidationMetrics.start(),Checks.matches(content,pattern),co,ex);
+	}
+	public Validator beTrueRegExp(String content,Pattern pattern,int co,Supplier<String> ex){
+		check(CheckType.REGEXP,ValidationMetrics.start(),pattern!=null&&Checks.matches(content,pattern),co,ex);
+		return this;
+	}
+	public Validator beTrueRegExp(String content,Pattern pattern,int co,String template,Object... args){
+		check(CheckType.REGEXP,ValidationMetrics.start(),pattern!=null&&Checks.matches(content,pattern),co,template,args);
+		return this;
+	}
+	public Validator beTrueRegExp(String content,Pattern pattern,Integer co){
+		return beTrueRegExp(content,pattern,co,null);
+	}
+	public Validator beTrueRegExp(String content,Pattern pattern,String ex){
+		return beTrueRegExp(content,pattern,null,ex);
+	}
+	public Validator beTrueRegExp(String content,Pattern pattern){
+		return beTrueRegExp(content,pattern,null,null);
+	}
+	
+	private Validator matches(CheckType type,String content,RegExpMatcher matcher,Integer co,String ex){
+		if(!guard(type,content!=null,null,null)){
+			return this;
+		}
+		return be(type,ValidationMetrics.start(),Checks.matches(content,matcher),co,ex);
+	}
+	
+	/**
+	 * 功能描述：获取beTrueRegExp(String,String)使用的正则编译缓存,可用于查看命中/未命中次数
+	 */
+	public final static PatternCache patternCache(){
+		return PATTERN_CACHE;
+	}
+	
 	/*   be phone number part    */
 	/**
-	 * 功能描述：判断给定对象是否为座机号码
+	 * 功能描述：判断给定对象是否为座机号码<br/>
+	 * 			number为null或格式不满足时都报出给定的co/ex;早期版本格式不满足时报出的是校验器当前的co/ex
 	 */
 	public Validator bePhoneNumber(String number,Integer co,String ex){
-		beNotNull(number,co,ex);
-		//未包含区号
-		if(number.indexOf("-")==-1){
-			return beTrueRegExp(number, "^[1-9]{1}[0-9]{5,8}$");
-		}else{//有区号
-			return beTrueRegExp(number, "^[0][1-9]{2,3}-[0-9]{5,10}$");
+		if(!guard(CheckType.PHONE_NUMBER,number!=null,co,ex)){
+			return this;
 		}
+		return be(CheckType.PHONE_NUMBER,ValidationMetrics.start(),Checks.phoneNumber(number),co,ex);
+	}
+	public Validator bePhoneNumber(String number,int co,Supplier<String> ex){
+		check(CheckType.PHONE_NUMBER,ValidationMetrics.start(),number!=null&&Checks.phoneNumber(number),co,ex);
+		return this;
+	}
+	public Validator bePhoneNumber(String number,int co,String template,Object... args){
+		check(CheckType.PHONE_NUMBER,ValidationMetrics.start(),number!=null&&Checks.phoneNumber(number),co,template,args);
+		return this;
 	}
 	public Validator bePhoneNumber(String number,Integer co){
 		return bePhoneNumber(number,co,null);
@@ -663,9 +1423,442 @@ public class Validator{
 		return bePhoneNumber(number,null,null);
 	}
 	
+	/*   be utf8 in range part    */
+	/**
+	 * 功能描述：判断UTF-8字节的码点数(而非String.length()的UTF-16长度)是否在指定范围内,直接扫描字节,不解码为String<br/>
+	 * 			非法的UTF-8编码视为不满足;最多扫描到第max(begin,end)+1个码点<br/>
+	 * 			ByteBuffer取[position,limit)部分,不改变position/limit
+	 */
+	public Validator beUtf8InRange(int begin,int end,byte[] b,int offset,int length,boolean beginInclude,boolean endInclude,int co,String ex){
+		check(CheckType.UTF8_IN_RANGE,ValidationMetrics.start(),Checks.utf8InRange(begin,end,bytes(b,offset,length),beginInclude,endInclude),co,ex);
+		return this;
+	}
+	public Validator beUtf8InRange(int begin,int end,byte[] b,int offset,int length,boolean beginInclude,boolean endInclude,int co,String template,Object... args){
+		check(CheckType.UTF8_IN_RANGE,ValidationMetrics.start(),Checks.utf8InRange(begin,end,bytes(b,offset,length),beginInclude,endInclude),co,template,args);
+		return this;
+	}
+	public Validator beUtf8InRange(int begin,int end,byte[] b,int offset,int length,boolean beginInclude,boolean endInclude){
+		check(CheckType.UTF8_IN_RANGE,ValidationMetrics.start(),Checks.utf8InRange(begin,end,bytes(b,offset,length),beginInclude,endInclude),null,null);
+		return this;
+	}
+	public Validator beUtf8InRange(int begin,int end,byte[] b,int offset,int length,int co){
+		return beUtf8InRange(begin,end,b,offset,length,false,false,co,null);
+	}
+	public Validator beUtf8InRange(int begin,int end,byte[] b,int offset,int length,String ex){
+		check(CheckType.UTF8_IN_RANGE,ValidationMetrics.start(),Checks.utf8InRange(begin,end,bytes(b,offset,length),false,false),null,ex);
+		return this;
+	}
+	public Validator beUtf8InRange(int begin,int end,byte[] b,int offset,int length){
+		return beUtf8InRange(begin,end,b,offset,length,false,false);
+	}
+	public Validator beUtf8InRange(int begin,int end,ByteBuffer b,boolean beginInclude,boolean endInclude,int co,String ex){
+		check(CheckType.UTF8_IN_RANGE,ValidationMetrics.start(),Checks.utf8InRange(begin,end,bytes(b),beginInclude,endInclude),co,ex);
+		return this;
+	}
+	public Validator beUtf8InRange(int begin,int end,ByteBuffer b,boolean beginInclude,boolean endInclude,int co,String template,Object... args){
+		check(CheckType.UTF8_IN_RANGE,ValidationMetrics.start(),Checks.utf8InRange(begin,end,bytes(b),beginInclude,endInclude),co,template,args);
+		return this;
+	}
+	public Validator beUtf8InRange(int begin,int end,ByteBuffer b,boolean beginInclude,boolean endInclude){
+		check(CheckType.UTF8_IN_RANGE,ValidationMetrics.start(),Checks.utf8InRange(begin,end,bytes(b),beginInclude,endInclude),null,null);
+		return this;
+	}
+	public Validator beUtf8InRange(int begin,int end,ByteBuffer b,int co){
+		return beUtf8InRange(begin,end,b,false,false,co,null);
+	}
+	public Validator beUtf8InRange(int begin,int end,ByteBuffer b,String ex){
+		check(CheckType.UTF8_IN_RANGE,ValidationMetrics.start(),Checks.utf8InRange(begin,end,bytes(b),false,false),null,ex);
+		return this;
+	}
+	public Validator beUtf8InRange(int begin,int end,ByteBuffer b){
+		return beUtf8InRange(begin,end,b,false,false);
+	}
+
+	/*   be utf8Digits part    */
+	/**
+	 * 功能描述：判断UTF-8字节是否为非空的ASCII数字串
+	 */
+	public Validator beUtf8Digits(byte[] b,int offset,int length,int co,String ex){
+		check(CheckType.UTF8_DIGITS,ValidationMetrics.start(),Checks.utf8Digits(bytes(b,offset,length)),co,ex);
+		return this;
+	}
+	public Validator beUtf8Digits(byte[] b,int offset,int length,int co,String template,Object... args){
+		check(CheckType.UTF8_DIGITS,ValidationMetrics.start(),Checks.utf8Digits(bytes(b,offset,length)),co,template,args);
+		return this;
+	}
+	public Validator beUtf8Digits(byte[] b,int offset,int length,int co){
+		return beUtf8Digits(b,offset,length,co,null);
+	}
+	public Validator beUtf8Digits(byte[] b,int offset,int length,String ex){
+		check(CheckType.UTF8_DIGITS,ValidationMetrics.start(),Checks.utf8Digits(bytes(b,offset,length)),null,ex);
+		return this;
+	}
+	public Validator beUtf8Digits(byte[] b,int offset,int length){
+		check(CheckType.UTF8_DIGITS,ValidationMetrics.start(),Checks.utf8Digits(bytes(b,offset,length)),null,null);
+		return this;
+	}
+	public Validator beUtf8Digits(ByteBuffer b,int co,String ex){
+		check(CheckType.UTF8_DIGITS,ValidationMetrics.start(),Checks.utf8Digits(bytes(b)),co,ex);
+		return this;
+	}
+	public Validator beUtf8Digits(ByteBuffer b,int co,String template,Object... args){
+		check(CheckType.UTF8_DIGITS,ValidationMetrics.start(),Checks.utf8Digits(bytes(b)),co,template,args);
+		return this;
+	}
+	public Validator beUtf8Digits(ByteBuffer b,int co){
+		return beUtf8Digits(b,co,null);
+	}
+	public Validator beUtf8Digits(ByteBuffer b,String ex){
+		check(CheckType.UTF8_DIGITS,ValidationMetrics.start(),Checks.utf8Digits(bytes(b)),null,ex);
+		return this;
+	}
+	public Validator beUtf8Digits(ByteBuffer b){
+		check(CheckType.UTF8_DIGITS,ValidationMetrics.start(),Checks.utf8Digits(bytes(b)),null,null);
+		return this;
+	}
+
+	/*   be utf8Numbers part    */
+	/**
+	 * 功能描述：判断UTF-8字节是否为数字,规则同{@link #beNumbers(Object)},只识别ASCII数字
+	 */
+	public Validator beUtf8Numbers(byte[] b,int offset,int length,int co,String ex){
+		check(CheckType.UTF8_NUMBERS,ValidationMetrics.start(),Checks.utf8Numbers(bytes(b,offset,length)),co,ex);
+		return this;
+	}
+	public Validator beUtf8Numbers(byte[] b,int offset,int length,int co,String template,Object... args){
+		check(CheckType.UTF8_NUMBERS,ValidationMetrics.start(),Checks.utf8Numbers(bytes(b,offset,length)),co,template,args);
+		return this;
+	}
+	public Validator beUtf8Numbers(byte[] b,int offset,int length,int co){
+		return beUtf8Numbers(b,offset,length,co,null);
+	}
+	public Validator beUtf8Numbers(byte[] b,int offset,int length,String ex){
+		check(CheckType.UTF8_NUMBERS,ValidationMetrics.start(),Checks.utf8Numbers(bytes(b,offset,length)),null,ex);
+		return this;
+	}
+	public Validator beUtf8Numbers(byte[] b,int offset,int length){
+		check(CheckType.UTF8_NUMBERS,ValidationMetrics.start(),Checks.utf8Numbers(bytes(b,offset,length)),null,null);
+		return this;
+	}
+	public Validator beUtf8Numbers(ByteBuffer b,int co,String ex){
+		check(CheckType.UTF8_NUMBERS,ValidationMetrics.start(),Checks.utf8Numbers(bytes(b)),co,ex);
+		return this;
+	}
+	public Validator beUtf8Numbers(ByteBuffer b,int co,String template,Object... args){
+		check(CheckType.UTF8_NUMBERS,ValidationMetrics.start(),Checks.utf8Numbers(bytes(b)),co,template,args);
+		return this;
+	}
+	public Validator beUtf8Numbers(ByteBuffer b,int co){
+		return beUtf8Numbers(b,co,null);
+	}
+	public Validator beUtf8Numbers(ByteBuffer b,String ex){
+		check(CheckType.UTF8_NUMBERS,ValidationMetrics.start(),Checks.utf8Numbers(bytes(b)),null,ex);
+		return this;
+	}
+	public Validator beUtf8Numbers(ByteBuffer b){
+		check(CheckType.UTF8_NUMBERS,ValidationMetrics.start(),Checks.utf8Numbers(bytes(b)),null,null);
+		return this;
+	}
+
+	/*   be utf8MobilePhoneNumber part    */
+	/**
+	 * 功能描述：判断UTF-8字节是否为手机号,规则同{@link #beMobilePhoneNumber(String)}
+	 */
+	public Validator beUtf8MobilePhoneNumber(byte[] b,int offset,int length,int co,String ex){
+		check(CheckType.UTF8_MOBILE_PHONE_NUMBER,ValidationMetrics.start(),Checks.utf8MobilePhoneNumber(bytes(b,offset,length)),co,ex);
+		return this;
+	}
+	public Validator beUtf8MobilePhoneNumber(byte[] b,int offset,int length,int co,String template,Object... args){
+		check(CheckType.UTF8_MOBILE_PHONE_NUMBER,ValidationMetrics.start(),Checks.utf8MobilePhoneNumber(bytes(b,offset,length)),co,template,args);
+		return this;
+	}
+	public Validator beUtf8MobilePhoneNumber(byte[] b,int offset,int length,int co){
+		return beUtf8MobilePhoneNumber(b,offset,length,co,null);
+	}
+	public Validator beUtf8MobilePhoneNumber(byte[] b,int offset,int length,String ex){
+		check(CheckType.UTF8_MOBILE_PHONE_NUMBER,ValidationMetrics.start(),Checks.utf8MobilePhoneNumber(bytes(b,offset,length)),null,ex);
+		return this;
+	}
+	public Validator beUtf8MobilePhoneNumber(byte[] b,int offset,int length){
+		check(CheckType.UTF8_MOBILE_PHONE_NUMBER,ValidationMetrics.start(),Checks.utf8MobilePhoneNumber(bytes(b,offset,length)),null,null);
+		return this;
+	}
+	public Validator beUtf8MobilePhoneNumber(ByteBuffer b,int co,String ex){
+		check(CheckType.UTF8_MOBILE_PHONE_NUMBER,ValidationMetrics.start(),Checks.utf8MobilePhoneNumber(bytes(b)),co,ex);
+		return this;
+	}
+	public Validator beUtf8MobilePhoneNumber(ByteBuffer b,int co,String template,Object... args){
+		check(CheckType.UTF8_MOBILE_PHONE_NUMBER,ValidationMetrics.start(),Checks.utf8MobilePhoneNumber(bytes(b)),co,template,args);
+		return this;
+	}
+	public Validator beUtf8MobilePhoneNumber(ByteBuffer b,int co){
+		return beUtf8MobilePhoneNumber(b,co,null);
+	}
+	public Validator beUtf8MobilePhoneNumber(ByteBuffer b,String ex){
+		check(CheckType.UTF8_MOBILE_PHONE_NUMBER,ValidationMetrics.start(),Checks.utf8MobilePhoneNumber(bytes(b)),null,ex);
+		return this;
+	}
+	public Validator beUtf8MobilePhoneNumber(ByteBuffer b){
+		check(CheckType.UTF8_MOBILE_PHONE_NUMBER,ValidationMetrics.start(),Checks.utf8MobilePhoneNumber(bytes(b)),null,null);
+		return this;
+	}
+
+	/*   be utf8PhoneNumber part    */
+	/**
+	 * 功能描述：判断UTF-8字节是否为座机号码,规则同{@link #bePhoneNumber(String)}
+	 */
+	public Validator beUtf8PhoneNumber(byte[] b,int offset,int length,int co,String ex){
+		check(CheckType.UTF8_PHONE_NUMBER,ValidationMetrics.start(),Checks.utf8PhoneNumber(bytes(b,offset,length)),co,ex);
+		return this;
+	}
+	public Validator beUtf8PhoneNumber(byte[] b,int offset,int length,int co,String template,Object... args){
+		check(CheckType.UTF8_PHONE_NUMBER,ValidationMetrics.start(),Checks.utf8PhoneNumber(bytes(b,offset,length)),co,template,args);
+		return this;
+	}
+	public Validator beUtf8PhoneNumber(byte[] b,int offset,int length,int co){
+		return beUtf8PhoneNumber(b,offset,length,co,null);
+	}
+	public Validator beUtf8PhoneNumber(byte[] b,int offset,int length,String ex){
+		check(CheckType.UTF8_PHONE_NUMBER,ValidationMetrics.start(),Checks.utf8PhoneNumber(bytes(b,offset,length)),null,ex);
+		return this;
+	}
+	public Validator beUtf8PhoneNumber(byte[] b,int offset,int length){
+		check(CheckType.UTF8_PHONE_NUMBER,ValidationMetrics.start(),Checks.utf8PhoneNumber(bytes(b,offset,length)),null,null);
+		return this;
+	}
+	public Validator beUtf8PhoneNumber(ByteBuffer b,int co,String ex){
+		check(CheckType.UTF8_PHONE_NUMBER,ValidationMetrics.start(),Checks.utf8PhoneNumber(bytes(b)),co,ex);
+		return this;
+	}
+	public Validator beUtf8PhoneNumber(ByteBuffer b,int co,String template,Object... args){
+		check(CheckType.UTF8_PHONE_NUMBER,ValidationMetrics.start(),Checks.utf8PhoneNumber(bytes(b)),co,template,args);
+		return this;
+	}
+	public Validator beUtf8PhoneNumber(ByteBuffer b,int co){
+		return beUtf8PhoneNumber(b,co,null);
+	}
+	public Validator beUtf8PhoneNumber(ByteBuffer b,String ex){
+		check(CheckType.UTF8_PHONE_NUMBER,ValidationMetrics.start(),Checks.utf8PhoneNumber(bytes(b)),null,ex);
+		return this;
+	}
+	public Validator beUtf8PhoneNumber(ByteBuffer b){
+		check(CheckType.UTF8_PHONE_NUMBER,ValidationMetrics.start(),Checks.utf8PhoneNumber(bytes(b)),null,null);
+		return this;
+	}
+
+	/*   be utf8 contains part    */
+	/**
+	 * 功能描述：判断UTF-8字节target是否为b的子串,结果与解码后的String.contains一致<br/>
+	 * 			target可预先通过getBytes(StandardCharsets.UTF_8)编码一次后复用
+	 */
+	public Validator beUtf8Contains(byte[] target,byte[] b,int offset,int length,int co,String ex){
+		check(CheckType.UTF8_CONTAINS,ValidationMetrics.start(),Checks.utf8Contains(target,bytes(b,offset,length)),co,ex);
+		return this;
+	}
+	public Validator beUtf8Contains(byte[] target,byte[] b,int offset,int length,int co,String template,Object... args){
+		check(CheckType.UTF8_CONTAINS,ValidationMetrics.start(),Checks.utf8Contains(target,bytes(b,offset,length)),co,template,args);
+		return this;
+	}
+	public Validator beUtf8Contains(byte[] target,byte[] b,int offset,int length,int co){
+		return beUtf8Contains(target,b,offset,length,co,null);
+	}
+	public Validator beUtf8Contains(byte[] target,byte[] b,int offset,int length,String ex){
+		check(CheckType.UTF8_CONTAINS,ValidationMetrics.start(),Checks.utf8Contains(target,bytes(b,offset,length)),null,ex);
+		return this;
+	}
+	public Validator beUtf8Contains(byte[] target,byte[] b,int offset,int length){
+		check(CheckType.UTF8_CONTAINS,ValidationMetrics.start(),Checks.utf8Contains(target,bytes(b,offset,length)),null,null);
+		return this;
+	}
+	public Validator beUtf8Contains(byte[] target,ByteBuffer b,int co,String ex){
+		check(CheckType.UTF8_CONTAINS,ValidationMetrics.start(),Checks.utf8Contains(target,bytes(b)),co,ex);
+		return this;
+	}
+	public Validator beUtf8Contains(byte[] target,ByteBuffer b,int co,String template,Object... args){
+		check(CheckType.UTF8_CONTAINS,ValidationMetrics.start(),Checks.utf8Contains(target,bytes(b)),co,template,args);
+		return this;
+	}
+	public Validator beUtf8Contains(byte[] target,ByteBuffer b,int co){
+		return beUtf8Contains(target,b,co,null);
+	}
+	public Validator beUtf8Contains(byte[] target,ByteBuffer b,String ex){
+		check(CheckType.UTF8_CONTAINS,ValidationMetrics.start(),Checks.utf8Contains(target,bytes(b)),null,ex);
+		return this;
+	}
+	public Validator beUtf8Contains(byte[] target,ByteBuffer b){
+		check(CheckType.UTF8_CONTAINS,ValidationMetrics.start(),Checks.utf8Contains(target,bytes(b)),null,null);
+		return this;
+	}
+
+	private static Utf8Scanner.Bytes bytes(byte[] b,int offset,int length){
+		return b==null?null:Utf8Scanner.Bytes.of(b,offset,length);
+	}
+	
+	private static Utf8Scanner.Bytes bytes(ByteBuffer b){
+		return b==null?null:Utf8Scanner.Bytes.of(b);
+	}
+	
+	/*   check part   */
+	/**
+	 * 功能描述：所有校验的统一出口,不满足时抛出异常(收集模式下记录到结果中并返回false),调用方据此跳过后续依赖该条件的判断<br/>
+	 * 			start须在校验表达式之前求值(即作为更靠前的实参),开启{@link ValidationMetrics}时据此统计次数与耗时
+	 */
+	private boolean check(CheckType type,long start,boolean exp,Integer co,String ex){
+		rewriteThrowInfo(co, ex);
+		return finish(type,start,exp);
+	}
+	
+	/**
+	 * 功能描述：原始类型co的校验出口,与{@link #check(CheckType, long, boolean, Integer, String)}语义一致,但不会对co装箱
+	 */
+	private boolean check(CheckType type,long start,boolean exp,int co,String ex){
+		this.co=co;
+		plainThrowInfo(ex);
+		return finish(type,start,exp);
+	}
+	
+	/**
+	 * 功能描述：异常信息由ex在失败时生成,ex为null时与未指定信息一致
+	 */
+	private boolean check(CheckType type,long start,boolean exp,int co,Supplier<String> ex){
+		if(ex==null){
+			return check(type,start,exp,co,(String)null);
+		}
+		this.co=co;
+		lazyThrowInfo(ex);
+		return finish(type,start,exp);
+	}
+	
+	/**
+	 * 功能描述：异常信息在失败时按template与args格式化,template为null时与未指定信息一致
+	 */
+	private boolean check(CheckType type,long start,boolean exp,int co,String template,Object[] args){
+		if(template==null){
+			return check(type,start,exp,co,(String)null);
+		}
+		this.co=co;
+		templateThrowInfo(template,args);
+		return finish(type,start,exp);
+	}
+	
+	private boolean finish(CheckType type,long start,boolean exp){
+		if(start!=ValidationMetrics.DISABLED){
+			ValidationMetrics.record(type,start,exp,this.co);
+		}
+		if(!exp){
+			doThrow();
+			return false;
+		}
+		return true;
+	}
+	
+	private Validator be(CheckType type,long start,boolean exp,Integer co,String ex){
+		check(type,start,exp,co,ex);
+		return this;
+	}
+	
+	/**
+	 * 功能描述：前置条件(如非null)判断,满足时不计入统计,不满足时与普通校验一样报出
+	 */
+	private boolean guard(CheckType type,boolean exp,Integer co,String ex){
+		return exp||check(type,ValidationMetrics.start(),false,co,ex);
+	}
+	
+	/**
+	 * 功能描述：将{@link Checks}的判定结果转换为校验,未知类型统一报出UNKOWN_TYPE_CO
+	 */
+	private Validator status(CheckType type,long start,int status,Integer co,String ex){
+		if(status==Checks.UNKNOWN_TYPE){
+			check(type,start,false,UNKOWN_TYPE_CO,UNKNOWN_TYPE_EX);
+		}else{
+			check(type,start,status==Checks.PASS,co,ex);
+		}
+		return this;
+	}
+	private Validator status(CheckType type,long start,int status,int co,Supplier<String> ex){
+		if(status==Checks.UNKNOWN_TYPE){
+			check(type,start,false,UNKOWN_TYPE_CO,UNKNOWN_TYPE_EX);
+		}else{
+			check(type,start,status==Checks.PASS,co,ex);
+		}
+		return this;
+	}
+	private Validator status(CheckType type,long start,int status,int co,String template,Object[] args){
+		if(status==Checks.UNKNOWN_TYPE){
+			check(type,start,false,UNKOWN_TYPE_CO,UNKNOWN_TYPE_EX);
+		}else{
+			check(type,start,status==Checks.PASS,co,template,args);
+		}
+		return this;
+	}
+	
 	/*  do throw part  */
+	/**
+	 * 功能描述：异常信息只在这里生成;延迟信息每次可能不同,CACHED模式下不缓存,退化为STACKLESS
+	 */
 	private void doThrow(){
-		throw new ValidationException(this.co,this.ex);
+		if(this.exsupplier==null&&this.exargs==null){
+			if(this.result!=null){
+				this.result.add(this.co,this.ex);
+				return;
+			}
+			throw ExceptionCache.create(this.throwmode,this.co,this.ex);
+		}
+		String message;
+		String template=null;
+		Object[] args=null;
+		if(this.exsupplier!=null){
+			message=this.exsupplier.get();
+			message=message==null?DEX:message;
+		}else{
+			template=this.ex;
+			args=serializable(this.exargs);
+			message=format(template,this.exargs);
+		}
+		if(this.result!=null){
+			this.result.add(this.co,message,template,args);
+			return;
+		}
+		ThrowMode mode=this.throwmode==ThrowMode.CACHED?ThrowMode.STACKLESS:this.throwmode;
+		throw ExceptionCache.create(mode,this.co,message,template,args);
+	}
+	
+	/**
+	 * 功能描述：按String.format格式化,模板与参数不匹配时不掩盖校验失败,退化为模板加参数列表
+	 */
+	private static String format(String template,Object[] args){
+		if(args.length==0){
+			return template;
+		}
+		try{
+			return String.format(template,args);
+		}catch(IllegalFormatException e){
+			return template+Arrays.toString(args);
+		}
+	}
+	
+	/**
+	 * 功能描述：异常中保留的参数须可序列化,不可序列化的参数转为字符串
+	 */
+	private static Object[] serializable(Object[] args){
+		Object[] copy=args.clone();
+		for(int i=0;i<copy.length;i++){
+			if(copy[i]!=null&&!(copy[i] instanceof Serializable)){
+				copy[i]=String.valueOf(copy[i]);
+			}
+		}
+		return copy;
+	}
+	
+	/*   collecting result part   */
+	/**
+	 * 功能描述：获取收集模式下记录的全部失败信息
+	 */
+	public ValidationResult result(){
+		if(this.result==null){
+			throw new IllegalStateException("validator is not in collecting mode, use Validator.collecting()");
+		}
+		return this.result;
 	}
 	
 	/*   restore throw info   */
@@ -675,6 +1868,8 @@ public class Validator{
 	public Validator restoreThrowInfo(){
 		this.co=DCO;
 		this.ex=DEX;
+		this.exsupplier=null;
+		this.exargs=null;
 		return this;
 	}
 	
@@ -684,7 +1879,57 @@ public class Validator{
 	 */
 	public Validator rewriteThrowInfo(Integer co,String ex){
 		this.co=co==null?keeplastinform?this.co:DCO:co;
-		this.ex=ex==null?keeplastinform?this.ex:DEX:ex;
+		plainThrowInfo(ex);
+		return this;
+	}
+	
+	/**
+	 * 功能描述：重新设置异常编码,异常信息在校验失败时才通过ex生成
+	 */
+	public Validator rewriteThrowInfo(int co,Supplier<String> ex){
+		this.co=co;
+		if(ex==null){
+			plainThrowInfo(null);
+		}else{
+			lazyThrowInfo(ex);
+		}
+		return this;
+	}
+	
+	/**
+	 * 功能描述：重新设置异常编码,异常信息在校验失败时才按String.format(template,args)生成
+	 */
+	public Validator rewriteThrowInfo(int co,String template,Object... args){
+		this.co=co;
+		if(template==null){
+			plainThrowInfo(null);
+		}else{
+			templateThrowInfo(template,args);
+		}
 		return this;
 	}
+	
+	/**
+	 * 功能描述：ex为null且保留上次信息时沿用上次的信息(含延迟信息),否则改为固定信息
+	 */
+	private void plainThrowInfo(String ex){
+		if(ex==null&&keeplastinform){
+			return;
+		}
+		this.ex=ex==null?DEX:ex;
+		this.exsupplier=null;
+		this.exargs=null;
+	}
+	
+	private void lazyThrowInfo(Supplier<String> ex){
+		this.ex=null;
+		this.exsupplier=ex;
+		this.exargs=null;
+	}
+	
+	private void templateThrowInfo(String template,Object[] args){
+		this.ex=template;
+		this.exsupplier=null;
+		this.exargs=args==null?NO_ARGS:args;
+	}
 }
\ No newline at end of file
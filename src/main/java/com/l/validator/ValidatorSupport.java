@@ -0,0 +1,64 @@
+package com.l.validator;
+
+/**
+ * 功能描述：供注解处理器生成的校验类调用的判定与异常出口,保证生成代码与{@link BeanValidator}的判定、异常编号及抛出模式一致<br/>
+ * 			业务代码应使用{@link Validator}、{@link ValidationPlan}或{@link BeanValidator}
+ * @author: l.sl
+ */
+public final class ValidatorSupport{
+	/** 状态类判定的结果 */
+	public final static int PASS=Checks.PASS,FAIL=Checks.FAIL,UNKNOWN_TYPE=Checks.UNKNOWN_TYPE;
+
+	private ValidatorSupport(){
+	}
+
+	/*   check part   */
+	public final static int notBlank(Object o){
+		return Checks.notBlank(o);
+	}
+
+	public final static int inRange(double begin,double end,Object o,boolean beginInclude,boolean endInclude){
+		return Checks.inRange(begin,end,o,beginInclude,endInclude);
+	}
+
+	public final static boolean numbers(Object o){
+		return Checks.numbers(o);
+	}
+
+	public final static boolean mobilePhoneNumber(String number){
+		return Checks.mobilePhoneNumber(number);
+	}
+
+	public final static boolean phoneNumber(String number){
+		return Checks.phoneNumber(number);
+	}
+
+	/*   fail part   */
+	/**
+	 * 功能描述：result为null时按默认抛出模式抛出异常,否则记录到result
+	 */
+	public final static void fail(ValidationResult result,int co,String ex){
+		if(result==null){
+			throw ExceptionCache.create(Validator.getDefaultThrowMode(),co,ex);
+		}
+		result.add(co,ex);
+	}
+
+	/**
+	 * 功能描述：状态类判定失败,未知类型时使用未知类型的编号与信息
+	 */
+	public final static void fail(ValidationResult result,int status,int co,String ex){
+		if(status==UNKNOWN_TYPE){
+			fail(result,Validator.UNKOWN_TYPE_CO,Validator.UNKNOWN_TYPE_EX);
+		}else{
+			fail(result,co,ex);
+		}
+	}
+
+	/**
+	 * 功能描述：被校验对象为null,使用默认编号与信息
+	 */
+	public final static void fail(ValidationResult result){
+		fail(result,Validator.DCO,Validator.DEX);
+	}
+}
@@ -0,0 +1,22 @@
+package com.l.validator.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 功能描述：由LValidator-processor注解处理器在编译期为该类生成校验类(默认名为类名+Validator,与该类同包),
+ * 			生成的代码直接读取字段/getter并内联各注解的判定,无反射,失败时的异常编号与{@link com.l.validator.BeanValidator}一致
+ * @author: l.sl
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateValidator{
+	/**
+	 * 功能描述：生成类的简单类名,为空时使用类名+Validator(嵌套类以_连接外部类名)
+	 */
+	String value() default "";
+}
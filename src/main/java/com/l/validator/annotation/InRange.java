@@ -0,0 +1,28 @@
+package com.l.validator.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 功能描述：字段(字符串长度、集合大小或数值)在指定范围内,对应{@link com.l.validator.Validator#beInRange(Number, Number, Object, boolean, boolean, Integer, String)}
+ * @author: l.sl
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface InRange{
+	double begin();
+	
+	double end();
+	
+	boolean beginInclude() default false;
+	
+	boolean endInclude() default false;
+	
+	int co() default 0x0;
+	
+	String ex() default "数据校验失败!";
+}
@@ -0,0 +1,22 @@
+package com.l.validator.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 功能描述：字段满足正则表达式,对应{@link com.l.validator.Validator#beTrueRegExp(String, String, Integer, String)}
+ * @author: l.sl
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Regex{
+	String value();
+	
+	int co() default 0x0;
+	
+	String ex() default "数据校验失败!";
+}
@@ -0,0 +1,119 @@
+package com.l.validator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * 功能描述：启用{@link ValidationPlan.Builder#adaptive()}的计划与按声明顺序执行的同一计划的差分校验<br/>
+ * 			规则的耗时、失败率与co/ex(共用或独立)随机生成,部分规则可能返回未知类型,并随机插入barrier;
+ * 			每个计划的调用次数足以触发多次重排,报告的co/ex、test结果都必须与声明顺序一致
+ * @author: l.sl
+ */
+public class AdaptiveOrderTest{
+	private final static int PLANS=16,CALLS=40000;
+	private final static double[] FAILURE_RATES={0,0.02,0.3,0.9};
+	private final static Object UNKNOWN=new Object();
+	private static volatile int sink;
+
+	@Test
+	public void sameReportAsDeclarationOrder(){
+		Random random=new Random(20261018);
+		int reordered=0;
+		for(int p=0;p<PLANS;p++){
+			int n=2+random.nextInt(11);
+			ValidationPlan.Builder<int[]> adaptive=ValidationPlan.<int[]>builder().adaptive(),fixed=ValidationPlan.builder();
+			double[] failure=new double[n];
+			boolean[] unknown=new boolean[n];
+			int[] segment=new int[n];
+			int segments=0;
+			for(int i=0;i<n;i++){
+				if(i>0&&random.nextInt(6)==0){
+					adaptive.barrier();
+					segments++;
+				}
+				segment[i]=segments;
+				int r=random.nextInt(4),co=r==0?600+i:500+random.nextInt(3);
+				String ex=r==1?"ex"+i:"ex"+co;
+				int cost=random.nextBoolean()?0:50+random.nextInt(300);
+				failure[i]=FAILURE_RATES[random.nextInt(FAILURE_RATES.length)];
+				unknown[i]=random.nextInt(3)==0;
+				add(adaptive,i,cost,unknown[i],co,ex);
+				add(fixed,i,cost,unknown[i],co,ex);
+			}
+			ValidationPlan<int[]> a=adaptive.build(),f=fixed.build();
+			for(int c=0;c<CALLS;c++){
+				int[] target=new int[n];
+				for(int i=0;i<n;i++){
+					double d=random.nextDouble();
+					target[i]=d<failure[i]?1:unknown[i]&&d>0.97?2:0;
+				}
+				compare(a,f,target);
+			}
+			int[] order=a.order();
+			if(!Arrays.equals(order,f.order())){
+				reordered++;
+			}
+			//重排只发生在barrier划分的段内
+			int[] sorted=order.clone();
+			Arrays.sort(sorted);
+			assertArrayEquals(f.order(),sorted);
+			for(int k=0;k<n;k++){
+				assertEquals(Arrays.toString(order),segment[k],segment[order[k]]);
+			}
+		}
+		assertTrue(String.valueOf(reordered),reordered>=PLANS/3);
+	}
+
+	private static void compare(ValidationPlan<int[]> adaptive,ValidationPlan<int[]> fixed,int[] target){
+		String message=Arrays.toString(target)+" order "+Arrays.toString(adaptive.order());
+		int expected=fixed.firstFailure(target),actual=adaptive.firstFailure(target);
+		assertEquals(message,expected==-1,actual==-1);
+		if(expected!=-1){
+			assertEquals(message,fixed.co(expected),adaptive.co(actual));
+			assertEquals(message,fixed.ex(expected),adaptive.ex(actual));
+		}
+		assertEquals(message,fixed.test(target),adaptive.test(target));
+		ValidationException e=null;
+		try{
+			adaptive.validate(target);
+		}catch(ValidationException x){
+			e=x;
+		}
+		assertEquals(message,expected==-1,e==null);
+		if(e!=null){
+			assertEquals(message,fixed.co(expected),e.getCo());
+			assertEquals(message,fixed.ex(expected),e.getEx());
+		}
+	}
+
+	/**
+	 * 功能描述：target[i]为0时通过,为1时失败,为2时返回未知类型(只有unknown的规则)
+	 */
+	private static void add(ValidationPlan.Builder<int[]> builder,int i,int cost,boolean unknown,int co,String ex){
+		if(unknown){
+			builder.notBlank(t->{
+				spin(cost);
+				return t[i]==0?"x":t[i]==1?"":UNKNOWN;
+			},co,ex);
+		}else{
+			builder.beTrue(t->{
+				spin(cost);
+				return t[i]==0;
+			},co,ex);
+		}
+	}
+
+	private static void spin(int cost){
+		int x=sink;
+		for(int k=0;k<cost;k++){
+			x=x*31+k;
+		}
+		sink=x;
+	}
+}
@@ -0,0 +1,121 @@
+package com.l.validator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * 功能描述：{@link AsyncValidator}的记录顺序、快速失败、超时与异常处理;等待一律设上限,状态机出错时测试失败而不是挂起
+ * @author: l.sl
+ */
+public class AsyncValidatorTest{
+	private final static long WAIT=5;
+
+	@Test
+	public void collectingRecordsInDeclarationOrder() throws Exception{
+		CountDownLatch first=new CountDownLatch(1),second=new CountDownLatch(1);
+		AsyncValidator.Session session=AsyncValidator.get().session()
+			.sync(v->v.beTrue(false,501,"sync").beTrue(true,502,"sync pass"))
+			.check(()->{
+				first.await(WAIT,TimeUnit.SECONDS);
+				return false;
+			},601,"first")
+			.check(()->{
+				second.await(WAIT,TimeUnit.SECONDS);
+				return false;
+			},602,"second")
+			.check(()->true,603,"pass")
+			.check(()->false,604,"fourth");
+		CompletableFuture<ValidationResult> future=session.validate();
+		//按声明顺序的逆序完成
+		second.countDown();
+		Thread.sleep(20);
+		first.countDown();
+		ValidationResult result=future.get(WAIT,TimeUnit.SECONDS);
+		assertEquals(result.toString(),4,result.size());
+		int[] expected={501,601,602,604};
+		for(int i=0;i<expected.length;i++){
+			assertEquals(result.toString(),expected[i],result.getCo(i));
+		}
+		assertEquals("first",result.getEx(1));
+	}
+
+	@Test
+	public void failFastInterruptsRunningChecks() throws Exception{
+		CountDownLatch started=new CountDownLatch(1),interrupted=new CountDownLatch(1),never=new CountDownLatch(1);
+		ValidationResult result=AsyncValidator.get().failFast(true).session()
+			.check(()->{
+				started.countDown();
+				try{
+					never.await(WAIT,TimeUnit.SECONDS);
+				}catch(InterruptedException e){
+					interrupted.countDown();
+					throw e;
+				}
+				return true;
+			},601,"slow")
+			.check(()->!started.await(WAIT,TimeUnit.SECONDS),602,"fails")
+			.validate().get(WAIT,TimeUnit.SECONDS);
+		assertEquals(result.toString(),1,result.size());
+		assertEquals(602,result.getCo(0));
+		assertEquals("fails",result.getEx(0));
+		assertTrue("running check was not interrupted",interrupted.await(WAIT,TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void timeoutRecordsCheckCoAndEx() throws Exception{
+		CountDownLatch interrupted=new CountDownLatch(1),never=new CountDownLatch(1);
+		ValidationResult result=AsyncValidator.get().session()
+			.check(()->true,601,"pass")
+			.check(()->{
+				try{
+					never.await(WAIT,TimeUnit.SECONDS);
+				}catch(InterruptedException e){
+					interrupted.countDown();
+					throw e;
+				}
+				return true;
+			},701,"too slow",50,TimeUnit.MILLISECONDS)
+			.validate().get(WAIT,TimeUnit.SECONDS);
+		assertEquals(result.toString(),1,result.size());
+		assertEquals(701,result.getCo(0));
+		assertEquals("too slow",result.getEx(0));
+		assertTrue("timed out check was not interrupted",interrupted.await(WAIT,TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void validationExceptionUsesItsOwnCoAndEx() throws Exception{
+		ValidationResult result=AsyncValidator.get().session()
+			.check(()->{
+				Validator.get(801,"thrown").beTrue(false);
+				return true;
+			},601,"declared")
+			.validate().get(WAIT,TimeUnit.SECONDS);
+		assertEquals(result.toString(),1,result.size());
+		assertEquals(801,result.getCo(0));
+		assertEquals("thrown",result.getEx(0));
+	}
+
+	@Test
+	public void otherExceptionCompletesExceptionally() throws Exception{
+		IllegalStateException cause=new IllegalStateException("service down");
+		try{
+			AsyncValidator.get().session()
+				.check(()->true,601,"pass")
+				.check(()->{
+					throw cause;
+				},602,"declared")
+				.validate().get(WAIT,TimeUnit.SECONDS);
+			fail("expected ExecutionException");
+		}catch(ExecutionException e){
+			assertEquals(cause,e.getCause());
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package com.l.validator;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * 功能描述：{@link NumberScanner#isNumber(CharSequence)}与原先基于new BigDecimal(String)实现的差分校验<br/>
+ * 			唯一有意的差异:"0x"之后的十六进制数字(如0xFF)现在被接受
+ * @author: l.sl
+ */
+public class NumberScannerTest{
+	private final static String[] EDGES={
+		"","+","-",".","+.","-.","1","-1","+1","1.","-1.",".5","-.5","1.5","1.2.3","+-1","--1",
+		"1e","1E","1e+","1e-","1e10","1E-5","1e+5","1.5e3",".5e1","e5","1e5.5","1e1e1",
+		"1e2147483647","1e2147483648","1e-2147483648","1e-2147483649","0.1e-2147483647","0.1e-2147483648","1.0e2147483647",
+		"1e0000000000005","1e99999999999","1e-99999999999","9999999999999999999999999999999999999999",
+		"١٢٣","１２","1٢.٣","٣e١",
+		" 1","1 ","1_000","NaN","Infinity","-Infinity","0x","0x1","0x12","0xFF","0xff","0xG","0x1.5","0x-1","0x+1","0x1e5","0x_1","0X12","x12"
+	};
+	private final static char[] ALPHABET="0123456789+-.eEx _aF١１".toCharArray();
+
+	@Test
+	public void edges(){
+		for(String s:EDGES){
+			assertEquals(s,reference(s),NumberScanner.isNumber(s));
+		}
+	}
+
+	@Test
+	public void random(){
+		Random random=new Random(20261018);
+		StringBuilder sb=new StringBuilder();
+		for(int i=0;i<200000;i++){
+			sb.setLength(0);
+			int len=random.nextInt(12);
+			for(int j=0;j<len;j++){
+				sb.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+			}
+			if(random.nextInt(8)==0){
+				sb.insert(0,"0x");
+			}
+			String s=sb.toString();
+			assertEquals(s,reference(s),NumberScanner.isNumber(s));
+		}
+	}
+
+	/**
+	 * 功能描述：原先基于new BigDecimal(String)的实现,加上有意新增的十六进制写法
+	 */
+	private static boolean reference(String so){
+		if(so.startsWith("0x")){
+			if(hex(so.substring(2))){
+				return true;
+			}
+			if(so.contains(".")||so.contains("_")){
+				return false;
+			}
+			so=so.substring(2);
+		}
+		try{
+			new BigDecimal(so);
+			return true;
+		}catch(NumberFormatException e){
+			return false;
+		}
+	}
+
+	private static boolean hex(String s){
+		return !s.isEmpty()&&s.chars().allMatch(c->Character.digit(c,16)>=0&&c<128);
+	}
+}
@@ -0,0 +1,79 @@
+package com.l.validator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * 功能描述：{@link RegExpMatcher}编译出的DFA与pattern.matcher(s).matches()的差分校验
+ * @author: l.sl
+ */
+public class RegExpMatcherTest{
+	private final static String[] EDGES={
+		"","1","13812345678","1381234567","138123456789","12812345678","19912345678","23812345678","1381234567a",
+		"123456","1234567","123456789","1234567890","023456","010-12345","0101-1234567890","010-1234","01-12345","0a1-12345","010-12345678901",
+		"13812345678\n","13812345678\r\n","\n13812345678","1381234\n5678","13812345678\u0085","13812345678 ","13812345678 ",
+		"١٣٨١٢٣٤٥٦٧٨","１３８１２３４５６７８","1381234567８","😀","1381234567😀","\uD83D","\uDE00\uD83D"
+	};
+	private final static String[] ATOMS={
+		"a","b","1","_","-","é","[0-9]","[a-c]","[^a]","[a-c_0]","[^\\d]","[1,3]",".","\\d","\\w","\\s","\\D","\\W","\\S","\\n","\\."
+	};
+	private final static String[] QUANTIFIERS={"","","?","*","+","{2}","{0,2}","{1,3}","{2,}"};
+	private final static String[] ALPHABET={
+		"a","b","c","1","0","5","_","-",",","."," ","\t","\n","\r","\u0085"," "," ","é","中","١","😀","\uD83D"
+	};
+
+	@Test
+	public void builtin(){
+		for(Pattern p:new Pattern[]{Checks.MOBILE_PHONE_PATTERN,Checks.PHONE_PATTERN,Checks.AREA_PHONE_PATTERN}){
+			RegExpMatcher m=RegExpMatcher.of(p);
+			assertTrue(p.pattern(),m.isCompiled());
+			for(String s:EDGES){
+				assertEquals(p.pattern()+" "+s,p.matcher(s).matches(),m.matches(s));
+			}
+		}
+	}
+
+	@Test
+	public void random(){
+		Random random=new Random(20261018);
+		StringBuilder sb=new StringBuilder();
+		int compiled=0;
+		for(int i=0;i<2000;i++){
+			sb.setLength(0);
+			if(random.nextBoolean()){
+				sb.append('^');
+			}
+			int atoms=1+random.nextInt(5);
+			for(int j=0;j<atoms;j++){
+				sb.append(ATOMS[random.nextInt(ATOMS.length)]).append(QUANTIFIERS[random.nextInt(QUANTIFIERS.length)]);
+			}
+			if(random.nextBoolean()){
+				sb.append('$');
+			}
+			Pattern p=Pattern.compile(sb.toString());
+			RegExpMatcher m=RegExpMatcher.of(p);
+			if(m.isCompiled()){
+				compiled++;
+			}
+			for(int k=0;k<100;k++){
+				String s=input(random);
+				assertEquals(p.pattern()+" "+s,p.matcher(s).matches(),m.matches(s));
+			}
+		}
+		assertTrue(String.valueOf(compiled),compiled>1000);
+	}
+
+	private static String input(Random random){
+		StringBuilder sb=new StringBuilder();
+		int len=random.nextInt(8);
+		for(int j=0;j<len;j++){
+			sb.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+		}
+		return sb.toString();
+	}
+}
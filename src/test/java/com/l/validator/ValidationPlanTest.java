@@ -0,0 +1,54 @@
+package com.l.validator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * 功能描述：{@link ValidationPlan}的in/notIn规则
+ * @author: l.sl
+ */
+public class ValidationPlanTest{
+
+	@Test
+	public void inWithCoAndEx(){
+		ValidationPlan<String> plan=ValidationPlan.<String>builder()
+			.in(s->s,new Object[]{"a","b"},505,"not in a,b")
+			.notIn(s->s,new Object[]{"b"},506,"b is forbidden")
+			.build();
+		assertTrue(plan.test("a"));
+		ValidationResult result=plan.validate("c",new ValidationResult());
+		assertEquals(1,result.size());
+		assertEquals(505,result.getCo(0));
+		assertEquals("not in a,b",result.getEx(0));
+		result=plan.validate("b",new ValidationResult());
+		assertEquals(1,result.size());
+		assertEquals(506,result.getCo(0));
+		assertEquals("b is forbidden",result.getEx(0));
+		try{
+			plan.validate("c");
+		}catch(ValidationException e){
+			assertEquals(505,e.getCo());
+			assertEquals("not in a,b",e.getEx());
+			return;
+		}
+		throw new AssertionError("expected ValidationException");
+	}
+
+	@Test
+	public void inWithPlanDefaults(){
+		ValidationPlan<Object> plan=ValidationPlan.builder(507,"plan default")
+			.in(o->o,1,"x")
+			.notIn(o->o,2,"y")
+			.build();
+		assertTrue(plan.test(1));
+		assertTrue(plan.test("x"));
+		assertFalse(plan.test(2));
+		ValidationResult result=plan.validate(3,new ValidationResult());
+		assertEquals(1,result.size());
+		assertEquals(507,result.getCo(0));
+		assertEquals("plan default",result.getEx(0));
+	}
+}
@@ -0,0 +1,89 @@
+package com.l.validator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Field;
+
+import org.junit.Test;
+
+/**
+ * 功能描述：{@link Validator#lease()}借出的池化实例在归还后不再引用上一使用者的对象,再次借出时不带有其状态
+ * @author: l.sl
+ */
+public class ValidatorTest{
+
+	@Test
+	public void releasedInstanceStartsFresh(){
+		Validator first=Validator.lease(505,"first user");
+		first.throwMode(ThrowMode.CACHED).enableKeepLastInform().rewriteThrowInfo(506,()->"lazy message");
+		first.close();
+		Validator second=Validator.lease();
+		try{
+			assertSame("pool did not hand back the returned instance",first,second);
+			assertDefault(second);
+			second.rewriteThrowInfo(507,"template %s","argument");
+		}finally{
+			second.close();
+		}
+		Validator third=Validator.lease();
+		try{
+			assertSame(second,third);
+			assertDefault(third);
+		}finally{
+			third.close();
+		}
+	}
+
+	@Test
+	public void closeDropsCallerState() throws Exception{
+		Object captured=new Object();
+		Validator v=Validator.lease();
+		v.rewriteThrowInfo(506,()->"lazy "+captured);
+		v.close();
+		assertNull(field(v,"exsupplier"));
+		v=Validator.lease();
+		v.rewriteThrowInfo(507,"template %s",captured);
+		v.close();
+		assertNull(field(v,"exargs"));
+		assertEquals(Validator.DEX,field(v,"ex"));
+		assertEquals(Validator.DCO,field(v,"co"));
+		assertNull(field(v,"result"));
+	}
+
+	private static Object field(Validator v,String name) throws Exception{
+		Field f=Validator.class.getDeclaredField(name);
+		f.setAccessible(true);
+		return f.get(v);
+	}
+
+	private static void assertDefault(Validator v){
+		try{
+			v.result();
+			fail("leased validator must not be in collecting mode");
+		}catch(IllegalStateException e){
+			//expected
+		}
+		ValidationException e1=failure(v),e2=failure(v);
+		assertEquals(Validator.DCO,e1.getCo());
+		assertEquals(Validator.DEX,e1.getEx());
+		assertEquals(null,e1.getArgs());
+		//默认的STACK_TRACE模式每次创建新异常并带有堆栈,CACHED模式会复用实例
+		assertNotEquals(0,e1.getStackTrace().length);
+		if(e1==e2){
+			fail("throw mode was not reset");
+		}
+	}
+
+	private static ValidationException failure(Validator v){
+		try{
+			v.beTrue(false);
+		}catch(ValidationException e){
+			return e;
+		}
+		throw new AssertionError("expected ValidationException");
+	}
+}